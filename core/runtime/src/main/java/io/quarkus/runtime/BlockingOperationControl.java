@@ -9,6 +9,11 @@ public static void setIoThreadDetector(IOThreadDetector[] ioThreadDetector) {
     }
 
     public static boolean isBlockingAllowed() {
+        IOThreadDetector[] ioThreadDetectors = BlockingOperationControl.ioThreadDetectors;
+        if (ioThreadDetectors == null) {
+            // Not set yet, there are no IO threads
+            return true;
+        }
         for (IOThreadDetector ioThreadDetector : ioThreadDetectors) {
             if (ioThreadDetector.isInIOThread()) {
                 return false;
@@ -1,5 +1,8 @@
 package io.quarkus.runtime.logging;
 
+import java.util.Optional;
+import java.util.logging.Level;
+
 import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -24,4 +27,19 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Whether to queue the records in a lock-free ring buffer drained by a single thread, which writes them in batches
+     * and flushes the handler once per batch, instead of the blocking queue of the JBoss Log Manager async handler.
+     * With the ring buffer, the IO threads never block: their records are discarded when the queue is full.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean ringBuffer;
+
+    /**
+     * The level below which the records are discarded rather than blocking the publisher when the queue is full and
+     * the overflow action is {@code block}. Only used with the ring buffer.
+     */
+    @ConfigItem
+    Optional<Level> discardLevel;
 }
@@ -18,6 +18,11 @@
  */
 public class LogMetricsHandler extends Handler {
 
+    /**
+     * The number of log records discarded by the asynchronous handlers because their queue was full.
+     */
+    static final LongAdder DROPPED = new LongAdder();
+
     final NavigableMap<Integer, LongAdder> logCounters;
 
     public LogMetricsHandler(NavigableMap<Integer, LongAdder> logCounters) {
@@ -27,6 +27,7 @@
 import java.util.logging.LogRecord;
 
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -36,6 +37,7 @@
 import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.jboss.logmanager.handlers.FileHandler;
+import org.jboss.logmanager.handlers.OutputStreamHandler;
 import org.jboss.logmanager.handlers.PeriodicSizeRotatingFileHandler;
 import org.jboss.logmanager.handlers.SizeRotatingFileHandler;
 import org.jboss.logmanager.handlers.SyslogHandler;
@@ -702,7 +704,18 @@ private static Handler configureSyslogHandler(final SyslogConfig config, final E
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer) {
+            final RingBufferAsyncHandler asyncHandler = new RingBufferAsyncHandler(asyncConfig.queueLength,
+                    asyncConfig.overflow, asyncConfig.discardLevel.orElse(null));
+            if (handler instanceof OutputStreamHandler) {
+                // Flushed once per batch by the async handler
+                ((OutputStreamHandler) handler).setAutoFlush(false);
+            }
+            asyncHandler.addHandler(handler);
+            asyncHandler.setLevel(level);
+            return asyncHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -0,0 +1,221 @@
+package io.quarkus.runtime.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+import io.quarkus.runtime.BlockingOperationControl;
+
+/**
+ * An asynchronous handler queuing the records in a bounded lock-free ring buffer, drained by a single thread publishing
+ * them to the nested handlers in batches, and flushing the nested handlers once per batch.
+ * <p>
+ * When the ring buffer is full, the record is discarded if the overflow action is {@link OverflowAction#DISCARD}, if its
+ * level is below the discard level, or if the publishing thread is an IO thread. Otherwise, the publishing thread waits
+ * for a free slot. The discarded records are counted, per handler and for the {@code log.dropped} metric.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /** The maximum number of records published before flushing the nested handlers */
+    static final int MAX_BATCH_SIZE = 256;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final RingBuffer queue;
+    private final OverflowAction overflowAction;
+    private final int discardLevel;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final AtomicBoolean consumerWaiting = new AtomicBoolean();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread consumer;
+    private volatile boolean closed;
+
+    /**
+     * @param queueLength the minimum number of records the ring buffer can hold, rounded up to a power of two
+     * @param overflowAction what to do when the ring buffer is full
+     * @param discardLevel the level below which the records are discarded rather than waited for when the ring buffer is
+     *        full, or {@code null}
+     */
+    public RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction, Level discardLevel) {
+        if (queueLength <= 0) {
+            throw new IllegalArgumentException("The queue length must be positive: " + queueLength);
+        }
+        this.queue = new RingBuffer(queueLength);
+        this.overflowAction = overflowAction;
+        this.discardLevel = discardLevel == null ? Integer.MIN_VALUE : discardLevel.intValue();
+        this.consumer = new Thread(this::drain, "quarkus-async-log");
+        this.consumer.setDaemon(true);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        if (!started.get() && started.compareAndSet(false, true)) {
+            consumer.start();
+        }
+        // The record is published later from another thread
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        while (!queue.offer(record)) {
+            if (closed || overflowAction == OverflowAction.DISCARD || record.getLevel().intValue() < discardLevel
+                    || !BlockingOperationControl.isBlockingAllowed()) {
+                droppedRecords.increment();
+                LogMetricsHandler.DROPPED.increment();
+                return;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        wakeUpConsumer();
+    }
+
+    private void wakeUpConsumer() {
+        if (consumerWaiting.get() && consumerWaiting.compareAndSet(true, false)) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            int published = 0;
+            ExtLogRecord record;
+            while (published < MAX_BATCH_SIZE && (record = queue.poll()) != null) {
+                try {
+                    publishToNestedHandlers(record);
+                } catch (RuntimeException e) {
+                    reportError("Failed to publish the log record", e, ErrorManager.WRITE_FAILURE);
+                }
+                published++;
+            }
+            if (published > 0) {
+                flush();
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            // Publishers check the flag after queuing a record, so the queue is checked again before parking
+            consumerWaiting.set(true);
+            if (queue.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerWaiting.set(false);
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started.get()) {
+            LockSupport.unpark(consumer);
+            try {
+                // Publishes the queued records
+                consumer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+    /**
+     * @return the number of records waiting to be published
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of records discarded because the ring buffer was full
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    /**
+     * A bounded multi-producer single-consumer array queue. Each slot has a sequence number telling whether it can be
+     * written for a given position, or read.
+     */
+    static final class RingBuffer {
+        private final int mask;
+        private final AtomicReferenceArray<ExtLogRecord> records;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        /** Only accessed by the consumer */
+        private long head;
+        private volatile long consumed;
+
+        RingBuffer(int minCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(2, minCapacity) - 1) << 1;
+            this.mask = capacity - 1;
+            this.records = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(ExtLogRecord record) {
+            while (true) {
+                long position = tail.get();
+                int index = (int) position & mask;
+                long sequence = sequences.get(index);
+                if (sequence == position) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        records.lazySet(index, record);
+                        // Releases the record to the consumer
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                } else if (sequence < position) {
+                    // The slot has not been read yet since the previous lap
+                    return false;
+                }
+                // Another producer took the slot, retry with the next position
+            }
+        }
+
+        ExtLogRecord poll() {
+            long position = head;
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                return null;
+            }
+            ExtLogRecord record = records.get(index);
+            records.lazySet(index, null);
+            // Frees the slot for the next lap
+            sequences.set(index, position + mask + 1);
+            head = position + 1;
+            consumed = head;
+            return record;
+        }
+
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        int size() {
+            return (int) Math.max(0, tail.get() - consumed);
+        }
+    }
+}
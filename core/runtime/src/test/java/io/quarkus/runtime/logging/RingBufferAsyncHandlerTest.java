@@ -0,0 +1,141 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void shouldPublishAllRecordsInBatches() throws Exception {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16, OverflowAction.BLOCK, null);
+        handler.addHandler(recording);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String name = "thread-" + t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    handler.publish(new ExtLogRecord(Level.INFO, name + " " + i, getClass().getName()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.close();
+
+        assertEquals(4000, recording.records.size());
+        assertEquals(0, handler.getDroppedRecords());
+        // The records of each thread are published in order
+        for (int t = 0; t < 4; t++) {
+            String prefix = "thread-" + t + " ";
+            int expected = 0;
+            for (LogRecord record : recording.records) {
+                if (record.getMessage().startsWith(prefix)) {
+                    assertEquals(prefix + expected++, record.getMessage());
+                }
+            }
+        }
+        assertTrue(recording.flushes > 0 && recording.flushes <= 4000);
+    }
+
+    @Test
+    public void shouldDiscardWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4, OverflowAction.DISCARD, null);
+        handler.addHandler(recording);
+
+        // The first record blocks the consumer, the next 4 fill the ring buffer
+        handler.publish(new ExtLogRecord(Level.INFO, "first", getClass().getName()));
+        assertTrue(recording.publishing.await(10, TimeUnit.SECONDS));
+        long dropped = LogMetricsHandler.DROPPED.sum();
+        for (int i = 0; i < 6; i++) {
+            handler.publish(new ExtLogRecord(Level.INFO, "record " + i, getClass().getName()));
+        }
+        assertEquals(4, handler.getQueueSize());
+        assertEquals(2, handler.getDroppedRecords());
+        assertEquals(2, LogMetricsHandler.DROPPED.sum() - dropped);
+
+        release.countDown();
+        handler.close();
+        assertEquals(5, recording.records.size());
+    }
+
+    @Test
+    public void shouldDiscardBelowLevelWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(2, OverflowAction.BLOCK, Level.WARN);
+        handler.addHandler(recording);
+
+        handler.publish(new ExtLogRecord(Level.INFO, "first", getClass().getName()));
+        assertTrue(recording.publishing.await(10, TimeUnit.SECONDS));
+        handler.publish(new ExtLogRecord(Level.INFO, "second", getClass().getName()));
+        handler.publish(new ExtLogRecord(Level.INFO, "third", getClass().getName()));
+        handler.publish(new ExtLogRecord(Level.DEBUG, "discarded", getClass().getName()));
+        assertEquals(1, handler.getDroppedRecords());
+
+        // A warning waits for a free slot
+        Thread warning = new Thread(
+                () -> handler.publish(new ExtLogRecord(Level.WARN, "warning", getClass().getName())));
+        warning.start();
+        warning.join(200);
+        assertTrue(warning.isAlive());
+
+        release.countDown();
+        warning.join(TimeUnit.SECONDS.toMillis(10));
+        handler.close();
+        assertEquals(1, handler.getDroppedRecords());
+        assertEquals("warning", recording.records.get(recording.records.size() - 1).getMessage());
+    }
+
+    private static final class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile int flushes;
+
+        private RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
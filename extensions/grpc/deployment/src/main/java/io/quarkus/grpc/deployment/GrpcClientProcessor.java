@@ -15,6 +15,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -58,6 +59,8 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -105,6 +108,15 @@ void setUpStork(GrpcStorkRecorder storkRecorder, GrpcClientBuildTimeConfig confi
         storkRecorder.init(config.storkProactiveConnections);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerStorkLoadBalancerMetrics(GrpcStorkRecorder storkRecorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(storkRecorder.registerLoadBalancerMetrics()));
+        }
+    }
+
     @BuildStep
     void discoverInjectedClients(BeanDiscoveryFinishedBuildItem beanDiscovery,
             BuildProducer<GrpcClientBuildItem> clients,
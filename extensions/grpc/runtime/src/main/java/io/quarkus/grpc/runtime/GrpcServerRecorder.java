@@ -18,6 +18,8 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -48,6 +50,7 @@
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.ZeroCopyMarshaller;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
 import io.quarkus.runtime.LaunchMode;
@@ -144,11 +147,12 @@ private void buildGrpcServer(Vertx vertx, GrpcServerConfiguration configuration,
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        Executor virtualThreadExecutor = prepareVirtualThreadExecutor(configuration);
 
         for (GrpcServiceDefinition service : toBeRegistered) {
             ServerServiceDefinition defWithInterceptors = serviceWithInterceptors(
-                    vertx, grpcContainer, blockingMethodsPerService, compressionInterceptor, service,
-                    launchMode == LaunchMode.DEVELOPMENT);
+                    vertx, grpcContainer, blockingMethodsPerService, compressionInterceptor, virtualThreadExecutor,
+                    configuration.zeroCopyMarshalling, service, launchMode == LaunchMode.DEVELOPMENT);
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             ServerServiceDefinition serviceDefinition = ServerInterceptors.intercept(defWithInterceptors, globalInterceptors);
             GrpcServiceBridge bridge = GrpcServiceBridge.bridge(serviceDefinition);
@@ -385,10 +389,12 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
         }
         List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        Executor virtualThreadExecutor = prepareVirtualThreadExecutor(configuration);
         for (GrpcServiceDefinition service : services) {
             servicesWithInterceptors.add(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
-                            compressionInterceptor, service, true));
+                            compressionInterceptor, virtualThreadExecutor,
+                            configuration.zeroCopyMarshalling, service, true));
         }
 
         for (ServerServiceDefinition serviceWithInterceptors : servicesWithInterceptors) {
@@ -472,11 +478,13 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        Executor virtualThreadExecutor = prepareVirtualThreadExecutor(configuration);
 
         for (GrpcServiceDefinition service : toBeRegistered) {
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
-                            compressionInterceptor, service, launchMode == LaunchMode.DEVELOPMENT));
+                            compressionInterceptor, virtualThreadExecutor,
+                            configuration.zeroCopyMarshalling, service, launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -514,9 +522,29 @@ private CompressionInterceptor prepareCompressionInterceptor(GrpcServerConfigura
         return compressionInterceptor;
     }
 
+    /**
+     * Executor spawning a virtual thread per task if the blocking methods should run on virtual threads, null otherwise
+     *
+     * @param configuration gRPC server configuration
+     * @return executor or null
+     */
+    private Executor prepareVirtualThreadExecutor(GrpcServerConfiguration configuration) {
+        if (!configuration.blockingOnVirtualThreads) {
+            return null;
+        }
+        try {
+            // Reflection so that the extension can still be compiled with Java 11
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Unable to create an executor spawning virtual threads, the blocking gRPC methods will be " +
+                    "executed on the worker threads, please check that your JDK is compatible with virtual threads");
+            return null;
+        }
+    }
+
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
             Map<String, List<String>> blockingMethodsPerService, CompressionInterceptor compressionInterceptor,
-            GrpcServiceDefinition service, boolean devMode) {
+            Executor virtualThreadExecutor, boolean zeroCopyMarshalling, GrpcServiceDefinition service, boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -528,10 +556,12 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
         if (!blockingMethodsPerService.isEmpty()) {
             List<String> list = blockingMethodsPerService.get(service.getImplementationClassName());
             if (list != null) {
-                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
+                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode, virtualThreadExecutor));
             }
         }
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = zeroCopyMarshalling ? ZeroCopyMarshaller.wrap(service.definition)
+                : service.definition;
+        return ServerInterceptors.intercept(definition, interceptors);
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
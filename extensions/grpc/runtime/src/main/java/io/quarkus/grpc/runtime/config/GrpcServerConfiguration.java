@@ -106,6 +106,22 @@ public class GrpcServerConfiguration {
     @ConfigItem(defaultValue = "1")
     public int instances;
 
+    /**
+     * Whether the gRPC methods annotated with `@Blocking` are executed on virtual threads instead of the worker threads.
+     * The events of a call are still executed sequentially, in order.
+     * It requires a JDK supporting virtual threads, the worker threads are used otherwise.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean blockingOnVirtualThreads;
+
+    /**
+     * Whether the protobuf requests are parsed directly from the buffers received by the gRPC server, instead of being
+     * copied into a heap array first.
+     * It only applies to the separate gRPC server, see `use-separate-server`, and to uncompressed messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
+
     /**
      * Configures the netty server settings.
      */
@@ -186,7 +186,11 @@ public LoadBalancer.PickResult pickSubchannel(LoadBalancer.PickSubchannelArgs ar
             LoadBalancer.Subchannel subchannel = subChannels.get(serviceInstance);
 
             if (serviceInstance.gatherStatistics() && STORK_SERVICE_INSTANCE.get() != null) {
-                STORK_SERVICE_INSTANCE.get().set(serviceInstance);
+                ServiceInstance previous = STORK_SERVICE_INSTANCE.get().getAndSet(serviceInstance);
+                if (previous != null && previous != serviceInstance) {
+                    // the call is picked again, e.g. when the balancing state changes, the previous pick is not used
+                    previous.recordEnd(null);
+                }
                 return LoadBalancer.PickResult.withSubchannel(subchannel);
             } else {
                 return LoadBalancer.PickResult.withSubchannel(subchannel);
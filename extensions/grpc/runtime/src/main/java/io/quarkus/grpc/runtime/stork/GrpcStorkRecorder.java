@@ -1,8 +1,11 @@
 package io.quarkus.grpc.runtime.stork;
 
+import java.util.function.Consumer;
+
 import io.grpc.LoadBalancerRegistry;
 import io.grpc.NameResolverRegistry;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class GrpcStorkRecorder {
@@ -10,4 +13,13 @@ public void init(boolean proactiveConnections) {
         NameResolverRegistry.getDefaultRegistry().register(new GrpcStorkServiceDiscovery());
         LoadBalancerRegistry.getDefaultRegistry().register(new GrpcLoadBalancerProvider(proactiveConnections));
     }
+
+    public Consumer<MetricsFactory> registerLoadBalancerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                LatencyAwareLoadBalancer.metricsFactory = metricsFactory;
+            }
+        };
+    }
 }
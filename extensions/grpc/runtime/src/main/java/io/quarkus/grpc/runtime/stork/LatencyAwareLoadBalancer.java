@@ -0,0 +1,227 @@
+package io.quarkus.grpc.runtime.stork;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.Metadata;
+import io.smallrye.stork.api.MetadataKey;
+import io.smallrye.stork.api.NoServiceInstanceFoundException;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * Stork load balancer picking the least loaded of two service instances chosen at random.
+ * <p>
+ * The load of an instance is its observed latency multiplied by the number of calls in flight on it. The latency is a
+ * moving average of the time to the first reply of the unary calls, decaying exponentially with the time elapsed since
+ * the last observation, that immediately follows any higher latency. A failed call counts as a call taking the error
+ * penalty. The instances without an observed latency, e.g. those only used for streaming calls, are compared by their
+ * number of calls in flight.
+ */
+public class LatencyAwareLoadBalancer implements LoadBalancer {
+
+    public static final String TYPE = "latency-aware";
+
+    /** Set when a metrics extension is present, the gauges of an instance are registered when it is first selected */
+    static volatile MetricsFactory metricsFactory;
+
+    private final long decayTimeNanos;
+    private final long errorPenaltyNanos;
+    private final Map<Long, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param decayTime the time after which an observed latency weights about a third of its initial weight
+     * @param errorPenalty the latency recorded for a failed call
+     */
+    public LatencyAwareLoadBalancer(Duration decayTime, Duration errorPenalty) {
+        this.decayTimeNanos = Math.max(decayTime.toNanos(), 1);
+        this.errorPenaltyNanos = errorPenalty.toNanos();
+    }
+
+    @Override
+    public ServiceInstance selectServiceInstance(Collection<ServiceInstance> serviceInstances) {
+        int size = serviceInstances.size();
+        if (size == 0) {
+            throw new NoServiceInstanceFoundException("No service instance found");
+        }
+        ServiceInstance selected;
+        if (size == 1) {
+            selected = serviceInstances.iterator().next();
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            ServiceInstance firstInstance = null;
+            ServiceInstance secondInstance = null;
+            Iterator<ServiceInstance> iterator = serviceInstances.iterator();
+            for (int i = 0; i <= Math.max(first, second); i++) {
+                ServiceInstance instance = iterator.next();
+                if (i == first) {
+                    firstInstance = instance;
+                } else if (i == second) {
+                    secondInstance = instance;
+                }
+            }
+            long now = System.nanoTime();
+            selected = compare(statsOf(firstInstance), statsOf(secondInstance), now) <= 0 ? firstInstance
+                    : secondInstance;
+        }
+        return new InstanceCall(selected, statsOf(selected));
+    }
+
+    @Override
+    public boolean requiresStrictRecording() {
+        return false;
+    }
+
+    InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(instance.getId(), id -> {
+            InstanceStats instanceStats = new InstanceStats(decayTimeNanos);
+            MetricsFactory factory = metricsFactory;
+            if (factory != null) {
+                String address = instance.getHost() + ":" + instance.getPort();
+                factory.builder("grpc.client.stork.in-flight")
+                        .description("Number of gRPC calls in flight on the service instance")
+                        .tag("instance", address)
+                        .buildGauge(instanceStats, InstanceStats::inFlight);
+                factory.builder("grpc.client.stork.latency")
+                        .description("Observed latency of the gRPC calls to the service instance")
+                        .tag("instance", address)
+                        .unit("milliseconds")
+                        .buildGauge(instanceStats, s -> s.latencyNanos(System.nanoTime()) / 1_000_000);
+            }
+            return instanceStats;
+        });
+    }
+
+    /**
+     * @return a negative number if the first instance is less loaded than the second one
+     */
+    static int compare(InstanceStats first, InstanceStats second, long now) {
+        int firstInFlight = first.inFlight();
+        int secondInFlight = second.inFlight();
+        int result = Double.compare(first.latencyNanos(now) * (firstInFlight + 1),
+                second.latencyNanos(now) * (secondInFlight + 1));
+        return result != 0 ? result : Integer.compare(firstInFlight, secondInFlight);
+    }
+
+    static final class InstanceStats {
+        private final long decayTimeNanos;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double latencyNanos;
+        private long lastObservation;
+
+        InstanceStats(long decayTimeNanos) {
+            this.decayTimeNanos = decayTimeNanos;
+        }
+
+        int inFlight() {
+            return inFlight.get();
+        }
+
+        synchronized double latencyNanos(long now) {
+            return latencyNanos * Math.exp(-Math.max(now - lastObservation, 0) / (double) decayTimeNanos);
+        }
+
+        synchronized void observe(long latency, long now) {
+            if (latency > latencyNanos) {
+                latencyNanos = latency;
+            } else {
+                double weight = Math.exp(-Math.max(now - lastObservation, 0) / (double) decayTimeNanos);
+                latencyNanos = latencyNanos * weight + latency * (1 - weight);
+            }
+            lastObservation = now;
+        }
+    }
+
+    /**
+     * The service instance selected for a call, recording its statistics.
+     */
+    final class InstanceCall implements ServiceInstance {
+        private final ServiceInstance delegate;
+        private final InstanceStats instanceStats;
+        private long start;
+        private boolean started;
+        private boolean replied;
+
+        InstanceCall(ServiceInstance delegate, InstanceStats instanceStats) {
+            this.delegate = delegate;
+            this.instanceStats = instanceStats;
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String getHost() {
+            return delegate.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return delegate.getPort();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return delegate.isSecure();
+        }
+
+        @Override
+        public Metadata<? extends MetadataKey> getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return delegate.getLabels();
+        }
+
+        @Override
+        public boolean gatherStatistics() {
+            return true;
+        }
+
+        @Override
+        public synchronized void recordStart(boolean measureTime) {
+            if (!started) {
+                started = true;
+                // The latency is only observed for the unary calls
+                replied = !measureTime;
+                start = System.nanoTime();
+                instanceStats.inFlight.incrementAndGet();
+            }
+        }
+
+        @Override
+        public synchronized void recordReply() {
+            if (started && !replied) {
+                replied = true;
+                long now = System.nanoTime();
+                instanceStats.observe(now - start, now);
+            }
+        }
+
+        @Override
+        public synchronized void recordEnd(Throwable failure) {
+            if (started) {
+                started = false;
+                instanceStats.inFlight.decrementAndGet();
+                if (failure != null) {
+                    instanceStats.observe(errorPenaltyNanos, System.nanoTime());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.grpc.runtime.stork;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.ServiceDiscovery;
+import io.smallrye.stork.api.config.ConfigWithType;
+import io.smallrye.stork.spi.internal.LoadBalancerLoader;
+import io.smallrye.stork.utils.DurationUtils;
+
+/**
+ * Creates the {@link LatencyAwareLoadBalancer}s, for the services configured with the {@code latency-aware} load
+ * balancer type.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code decay-time}: the time after which an observed latency weights about a third of its initial weight,
+ * {@code 10s} by default</li>
+ * <li>{@code error-penalty}: the latency recorded for a failed call, {@code 60s} by default</li>
+ * </ul>
+ */
+public class LatencyAwareLoadBalancerProviderLoader implements LoadBalancerLoader {
+
+    static final String DECAY_TIME = "decay-time";
+    static final String ERROR_PENALTY = "error-penalty";
+
+    @Override
+    public LoadBalancer createLoadBalancer(ConfigWithType config, ServiceDiscovery serviceDiscovery) {
+        Map<String, String> parameters = config.parameters();
+        return new LatencyAwareLoadBalancer(duration(parameters, DECAY_TIME, "10s"),
+                duration(parameters, ERROR_PENALTY, "60s"));
+    }
+
+    private static Duration duration(Map<String, String> parameters, String name, String defaultValue) {
+        String value = parameters.get(name);
+        return DurationUtils.parseDuration(value == null ? defaultValue : value, name);
+    }
+
+    @Override
+    public String type() {
+        return LatencyAwareLoadBalancer.TYPE;
+    }
+}
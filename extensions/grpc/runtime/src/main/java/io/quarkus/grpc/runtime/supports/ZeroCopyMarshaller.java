@@ -0,0 +1,142 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * Protobuf marshaller parsing the messages directly from the buffers received by the transport.
+ * <p>
+ * The default protobuf marshaller copies each message into a heap array before parsing it. When the transport exposes
+ * the buffers of the message, this marshaller takes ownership of them and parses the message from their NIO views,
+ * the buffers being released once the message is parsed. Otherwise, e.g. for compressed messages, the message is
+ * parsed by the default marshaller.
+ * <p>
+ * The messages are serialized by the default marshaller, which already writes them to the buffers allocated by the
+ * transport.
+ *
+ * @param <T> the type of the message
+ */
+public final class ZeroCopyMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private final MethodDescriptor.PrototypeMarshaller<T> delegate;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    ZeroCopyMarshaller(MethodDescriptor.PrototypeMarshaller<T> delegate) {
+        this.delegate = delegate;
+        this.parser = (Parser<T>) delegate.getMessagePrototype().getParserForType();
+    }
+
+    /**
+     * Replaces the protobuf request marshallers of the methods of the given service.
+     *
+     * @param definition the service definition
+     * @return the service definition using the zero-copy marshallers, or the given one if none of its methods uses
+     *         protobuf requests
+     */
+    public static ServerServiceDefinition wrap(ServerServiceDefinition definition) {
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        boolean wrapped = false;
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrappedMethod = wrap(method);
+            wrapped |= wrappedMethod != method;
+            methods.add(wrappedMethod);
+        }
+        if (!wrapped) {
+            return definition;
+        }
+        // The service descriptor must reference the method descriptors using the new marshallers
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            descriptorBuilder.addMethod(method.getMethodDescriptor());
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <ReqT, RespT> ServerMethodDefinition<?, ?> wrap(ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+        MethodDescriptor.Marshaller<ReqT> marshaller = descriptor.getRequestMarshaller();
+        if (!(marshaller instanceof MethodDescriptor.PrototypeMarshaller)
+                || !(((MethodDescriptor.PrototypeMarshaller<ReqT>) marshaller).getMessagePrototype() instanceof MessageLite)) {
+            return method;
+        }
+        MethodDescriptor.Marshaller<ReqT> zeroCopyMarshaller = new ZeroCopyMarshaller(
+                (MethodDescriptor.PrototypeMarshaller) marshaller);
+        return ServerMethodDefinition.create(descriptor.toBuilder().setRequestMarshaller(zeroCopyMarshaller).build(),
+                method.getServerCallHandler());
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return delegate.getMessagePrototype();
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        return delegate.getMessageClass();
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        if (!(stream instanceof KnownLength && stream instanceof Detachable && stream instanceof HasByteBuffer)
+                || !((HasByteBuffer) stream).byteBufferSupported() || !stream.markSupported()) {
+            return delegate.parse(stream);
+        }
+        // The detached stream owns the buffers of the message, they are released when it is closed
+        try (InputStream detached = ((Detachable) stream).detach()) {
+            int size = detached.available();
+            // Keeps the buffers that were skipped until the stream is closed
+            detached.mark(size);
+            List<ByteBuffer> buffers = new ArrayList<>();
+            while (size > 0) {
+                ByteBuffer buffer = ((HasByteBuffer) detached).getByteBuffer();
+                int length = Math.min(buffer.remaining(), size);
+                buffer.limit(buffer.position() + length);
+                buffers.add(buffer);
+                if (detached.skip(length) != length) {
+                    throw new IOException("Unexpected end of message");
+                }
+                size -= length;
+            }
+            CodedInputStream input = CodedInputStream.newInstance(buffers);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+            input.checkLastTagWas(0);
+            return message;
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to read the message").withCause(e).asRuntimeException();
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package io.quarkus.grpc.runtime.supports.blocking;
 
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.jboss.logging.Logger;
+
 import io.grpc.Context;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
@@ -32,15 +36,28 @@
  */
 public class BlockingServerInterceptor implements ServerInterceptor, Function<String, Boolean> {
 
+    private static final Logger LOGGER = Logger.getLogger(BlockingServerInterceptor.class);
+
     private final Vertx vertx;
     private final Set<String> blockingMethods;
     private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
     private final boolean devMode;
+    private final Executor virtualThreadExecutor;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode) {
+        this(vertx, blockingMethods, devMode, null);
+    }
+
+    /**
+     * @param virtualThreadExecutor the executor creating a virtual thread per task the blocking methods are executed
+     *        on, {@code null} to execute them on the worker threads
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode,
+            Executor virtualThreadExecutor) {
         this.vertx = vertx;
         this.blockingMethods = new HashSet<>();
         this.devMode = devMode;
+        this.virtualThreadExecutor = virtualThreadExecutor;
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
         }
@@ -96,20 +113,27 @@ public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, Re
     /**
      * Stores the incoming events until the listener is injected.
      * When injected, replay the events.
-     *
-     * Note that event must be executed in order, explaining why incomingEvents
-     * are executed sequentially
+     * <p>
+     * The events of a call are executed sequentially, in order, by a single blocking task at a time: the events are
+     * queued in a lock-free queue, and the task draining it is dispatched only when the queue was idle, so that the
+     * events of a streaming call do not go back to the event loop between two messages.
      */
-    private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+    private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> implements Handler<Promise<Object>> {
         private final InjectableContext.ContextState requestContextState;
+        private final ClassLoader tccl;
 
-        // exclusive to event loop context
-        private ServerCall.Listener<ReqT> delegate;
-        private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new LinkedList<>();
-        private boolean isConsumingFromIncomingEvents = false;
+        private volatile ServerCall.Listener<ReqT> delegate;
+        private final Queue<Event<ReqT>> incomingEvents = new ConcurrentLinkedQueue<>();
+        /**
+         * The number of times the events were dispatched since the last drain started, the events are drained by the
+         * task that increments it from 0. It also guarantees memory consistency between the successive drains, which
+         * might run on different threads.
+         */
+        private final AtomicInteger dispatched = new AtomicInteger();
 
         private ReplayListener(InjectableContext.ContextState requestContextState) {
             this.requestContextState = requestContextState;
+            this.tccl = devMode ? Thread.currentThread().getContextClassLoader() : null;
         }
 
         /**
@@ -120,46 +144,55 @@ private ReplayListener(InjectableContext.ContextState requestContextState) {
          */
         void setDelegate(ServerCall.Listener<ReqT> delegate) {
             this.delegate = delegate;
-            if (!this.isConsumingFromIncomingEvents) {
-                Consumer<ServerCall.Listener<ReqT>> consumer = incomingEvents.poll();
-                if (consumer != null) {
-                    executeBlockingWithRequestContext(consumer);
-                }
-            }
+            dispatch();
         }
 
         private void executeOnContextOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null && !this.isConsumingFromIncomingEvents) {
-                executeBlockingWithRequestContext(consumer);
-            } else {
-                incomingEvents.add(consumer);
+            incomingEvents.add(new Event<>(consumer, Context.current()));
+            if (delegate != null) {
+                dispatch();
             }
         }
 
-        /**
-         * Will execute the consumer in a worker context
-         * Once complete will enqueue the next consumer for execution.
-         * This method guarantees ordered execution per request.
-         *
-         * @param consumer the original
-         */
-        private void executeBlockingWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            final Context grpcContext = Context.current();
-            Handler<Promise<Object>> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
-                    requestContextState, getRequestContext(), this);
-            if (devMode) {
-                blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
-                        blockingHandler);
-            }
-            this.isConsumingFromIncomingEvents = true;
-            vertx.executeBlocking(blockingHandler, false, p -> {
-                Consumer<ServerCall.Listener<ReqT>> next = incomingEvents.poll();
-                if (next != null) {
-                    executeBlockingWithRequestContext(next);
+        private void dispatch() {
+            if (dispatched.getAndIncrement() == 0) {
+                if (virtualThreadExecutor != null) {
+                    virtualThreadExecutor.execute(this::drain);
                 } else {
-                    this.isConsumingFromIncomingEvents = false;
+                    vertx.executeBlocking(this, false);
+                }
+            }
+        }
+
+        @Override
+        public void handle(Promise<Object> promise) {
+            drain();
+            promise.complete();
+        }
+
+        private void drain() {
+            ClassLoader previousTccl = null;
+            if (tccl != null) {
+                previousTccl = Thread.currentThread().getContextClassLoader();
+                Thread.currentThread().setContextClassLoader(tccl);
+            }
+            ManagedContext requestContext = getRequestContext();
+            requestContext.activate(requestContextState);
+            try {
+                int missed = 1;
+                do {
+                    Event<ReqT> event;
+                    while ((event = incomingEvents.poll()) != null) {
+                        event.execute(delegate);
+                    }
+                    missed = dispatched.addAndGet(-missed);
+                } while (missed != 0);
+            } finally {
+                requestContext.deactivate();
+                if (tccl != null) {
+                    Thread.currentThread().setContextClassLoader(previousTccl);
                 }
-            });
+            }
         }
 
         @Override
@@ -188,6 +221,30 @@ public void onReady() {
         }
     }
 
+    /**
+     * An event of a call, executed with the gRPC context that was current when it was received.
+     */
+    private static final class Event<ReqT> {
+        private final Consumer<ServerCall.Listener<ReqT>> consumer;
+        private final Context grpcContext;
+
+        private Event(Consumer<ServerCall.Listener<ReqT>> consumer, Context grpcContext) {
+            this.consumer = consumer;
+            this.grpcContext = grpcContext;
+        }
+
+        void execute(ServerCall.Listener<ReqT> delegate) {
+            Context previous = grpcContext.attach();
+            try {
+                consumer.accept(delegate);
+            } catch (Throwable any) {
+                LOGGER.error("Unable to execute the event of a blocking gRPC call", any);
+            } finally {
+                grpcContext.detach(previous);
+            }
+        }
+    }
+
     // protected for tests
     protected ManagedContext getRequestContext() {
         return Arc.container().requestContext();
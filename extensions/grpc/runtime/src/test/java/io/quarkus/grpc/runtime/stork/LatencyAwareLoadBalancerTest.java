@@ -0,0 +1,101 @@
+package io.quarkus.grpc.runtime.stork;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.stork.api.ServiceInstance;
+import io.smallrye.stork.impl.DefaultServiceInstance;
+
+class LatencyAwareLoadBalancerTest {
+
+    private final ServiceInstance first = new DefaultServiceInstance(1, "localhost", 9001, false);
+    private final ServiceInstance second = new DefaultServiceInstance(2, "localhost", 9002, false);
+    private final List<ServiceInstance> instances = List.of(first, second);
+    private final LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(Duration.ofSeconds(10),
+            Duration.ofSeconds(60));
+
+    @Test
+    void testSelectsTheFastestInstance() {
+        long now = System.nanoTime();
+        loadBalancer.statsOf(first).observe(TimeUnit.MILLISECONDS.toNanos(300), now);
+        loadBalancer.statsOf(second).observe(TimeUnit.MILLISECONDS.toNanos(1), now);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(loadBalancer.selectServiceInstance(instances).getId()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testSelectsTheInstanceWithTheLeastCallsInFlight() {
+        for (int i = 0; i < 3; i++) {
+            loadBalancer.selectServiceInstance(List.of(first)).recordStart(false);
+        }
+
+        ServiceInstance selected = loadBalancer.selectServiceInstance(instances);
+
+        assertThat(selected.getId()).isEqualTo(2);
+        assertThat(loadBalancer.statsOf(first).inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    void testWeightsTheLatencyWithTheCallsInFlight() {
+        long now = System.nanoTime();
+        loadBalancer.statsOf(first).observe(TimeUnit.MILLISECONDS.toNanos(10), now);
+        loadBalancer.statsOf(second).observe(TimeUnit.MILLISECONDS.toNanos(15), now);
+        for (int i = 0; i < 2; i++) {
+            loadBalancer.selectServiceInstance(List.of(first)).recordStart(true);
+        }
+
+        assertThat(loadBalancer.selectServiceInstance(instances).getId()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordsTheCalls() {
+        ServiceInstance call = loadBalancer.selectServiceInstance(List.of(first));
+        assertThat(call.gatherStatistics()).isTrue();
+
+        call.recordStart(true);
+        assertThat(loadBalancer.statsOf(first).inFlight()).isEqualTo(1);
+        call.recordReply();
+        call.recordReply();
+        call.recordEnd(null);
+        call.recordEnd(null);
+
+        assertThat(loadBalancer.statsOf(first).inFlight()).isZero();
+        assertThat(loadBalancer.statsOf(first).latencyNanos(System.nanoTime())).isGreaterThan(0);
+    }
+
+    @Test
+    void testPenalizesTheFailures() {
+        long now = System.nanoTime();
+        loadBalancer.statsOf(second).observe(TimeUnit.MILLISECONDS.toNanos(300), now);
+        ServiceInstance call = loadBalancer.selectServiceInstance(List.of(first));
+        call.recordStart(false);
+        call.recordEnd(new RuntimeException("boom"));
+
+        assertThat(loadBalancer.statsOf(first).latencyNanos(System.nanoTime()))
+                .isGreaterThan(TimeUnit.SECONDS.toNanos(50));
+        assertThat(loadBalancer.selectServiceInstance(instances).getId()).isEqualTo(2);
+    }
+
+    @Test
+    void testDecaysTheLatency() {
+        LatencyAwareLoadBalancer.InstanceStats stats = new LatencyAwareLoadBalancer.InstanceStats(
+                TimeUnit.SECONDS.toNanos(1));
+        long now = System.nanoTime();
+        stats.observe(1000, now);
+
+        assertThat(stats.latencyNanos(now)).isEqualTo(1000);
+        assertThat(stats.latencyNanos(now + TimeUnit.SECONDS.toNanos(1))).isBetween(367.0, 368.0);
+
+        stats.observe(0, now + TimeUnit.SECONDS.toNanos(1));
+        assertThat(stats.latencyNanos(now + TimeUnit.SECONDS.toNanos(1))).isBetween(367.0, 368.0);
+        stats.observe(2000, now + TimeUnit.SECONDS.toNanos(1));
+        assertThat(stats.latencyNanos(now + TimeUnit.SECONDS.toNanos(1))).isEqualTo(2000);
+    }
+}
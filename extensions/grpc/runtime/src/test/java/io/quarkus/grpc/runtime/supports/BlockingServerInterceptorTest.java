@@ -4,8 +4,15 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +77,61 @@ void testContextPropagation() throws Exception {
         assertThat(serverCallHandler.contextUserName).isEqualTo("my-user");
     }
 
+    @Test
+    @Timeout(10)
+    void testMessagesAreExecutedSequentiallyInOrder() throws Exception {
+        final ServerCall serverCall = mock(ServerCall.class);
+        final StreamingServerCallHandler serverCallHandler = new StreamingServerCallHandler(1000);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        final ServerCall.Listener listener = blockingServerInterceptor.interceptCall(serverCall, null, serverCallHandler);
+        // the first messages are received before the listener is created
+        for (int i = 0; i < 1000; i++) {
+            listener.onMessage(i);
+        }
+
+        serverCallHandler.await();
+
+        assertThat(serverCallHandler.messages).containsExactlyElementsOf(
+                IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        assertThat(serverCallHandler.concurrentExecution).isFalse();
+        assertThat(serverCallHandler.threadNames).allSatisfy(name -> assertThat(name).contains("worker"));
+    }
+
+    static class StreamingServerCallHandler implements ServerCallHandler {
+        final List<Object> messages = new ArrayList<>();
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        volatile boolean concurrentExecution;
+        private final AtomicBoolean executing = new AtomicBoolean();
+        private final CountDownLatch latch;
+
+        StreamingServerCallHandler(int expectedMessages) {
+            latch = new CountDownLatch(expectedMessages);
+        }
+
+        @Override
+        public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+            return new ServerCall.Listener() {
+                @Override
+                public void onMessage(Object message) {
+                    if (!executing.compareAndSet(false, true)) {
+                        concurrentExecution = true;
+                    }
+                    messages.add(message);
+                    threadNames.add(Thread.currentThread().getName());
+                    executing.set(false);
+                    latch.countDown();
+                }
+            };
+        }
+
+        public void await() throws InterruptedException {
+            latch.await();
+        }
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
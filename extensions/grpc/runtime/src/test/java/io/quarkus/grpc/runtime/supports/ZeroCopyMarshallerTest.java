@@ -0,0 +1,99 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.StatusRuntimeException;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffers;
+import io.grpc.protobuf.ProtoUtils;
+
+@SuppressWarnings("unchecked")
+class ZeroCopyMarshallerTest {
+
+    private static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+            .<StringValue, StringValue> newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("my-service/echo")
+            .setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+            .setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+            .build();
+
+    @Test
+    void testParseFromSeveralBuffers() {
+        byte[] bytes = StringValue.of("x".repeat(10_000)).toByteArray();
+        CompositeReadableBuffer composite = new CompositeReadableBuffer();
+        composite.addBuffer(ReadableBuffers.wrap(direct(bytes, 0, 3)));
+        composite.addBuffer(ReadableBuffers.wrap(direct(bytes, 3, 4000)));
+        composite.addBuffer(ReadableBuffers.wrap(direct(bytes, 4003, bytes.length - 4003)));
+        InputStream stream = ReadableBuffers.openStream(composite, true);
+
+        StringValue message = marshaller().parse(stream);
+
+        assertThat(message.getValue()).isEqualTo("x".repeat(10_000));
+        assertThat(composite.readableBytes()).isZero();
+    }
+
+    @Test
+    void testParseFromOtherStreams() {
+        byte[] bytes = StringValue.of("hello").toByteArray();
+
+        StringValue message = marshaller().parse(new ByteArrayInputStream(bytes));
+
+        assertThat(message.getValue()).isEqualTo("hello");
+    }
+
+    @Test
+    void testParseInvalidMessage() {
+        InputStream stream = ReadableBuffers.openStream(ReadableBuffers.wrap(direct(new byte[] { 10, 5, 'a' }, 0, 3)),
+                true);
+
+        assertThatThrownBy(() -> marshaller().parse(stream)).isInstanceOf(StatusRuntimeException.class)
+                .hasMessageContaining("Invalid protobuf byte sequence");
+    }
+
+    @Test
+    void testWrapServiceDefinition() {
+        Object schema = new Object();
+        ServiceDescriptor descriptor = ServiceDescriptor.newBuilder("my-service")
+                .setSchemaDescriptor(schema)
+                .addMethod(METHOD)
+                .build();
+        ServerCallHandler<StringValue, StringValue> handler = mock(ServerCallHandler.class);
+        ServerServiceDefinition definition = ServerServiceDefinition.builder(descriptor)
+                .addMethod(METHOD, handler)
+                .build();
+
+        ServerServiceDefinition wrapped = ZeroCopyMarshaller.wrap(definition);
+
+        assertThat(wrapped.getServiceDescriptor().getSchemaDescriptor()).isSameAs(schema);
+        ServerMethodDefinition<?, ?> method = wrapped.getMethod("my-service/echo");
+        assertThat(method.getServerCallHandler()).isSameAs(handler);
+        assertThat(method.getMethodDescriptor().getRequestMarshaller()).isInstanceOf(ZeroCopyMarshaller.class);
+        assertThat(method.getMethodDescriptor().getResponseMarshaller()).isSameAs(METHOD.getResponseMarshaller());
+    }
+
+    private static ZeroCopyMarshaller<StringValue> marshaller() {
+        return new ZeroCopyMarshaller<>((MethodDescriptor.PrototypeMarshaller<StringValue>) METHOD.getRequestMarshaller());
+    }
+
+    private static ByteBuffer direct(byte[] bytes, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        buffer.put(bytes, offset, length).flip();
+        return buffer;
+    }
+}
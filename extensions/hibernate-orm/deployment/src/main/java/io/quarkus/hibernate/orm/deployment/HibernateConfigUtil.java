@@ -5,6 +5,7 @@
 import java.util.OptionalInt;
 
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCachingStorage;
 
 public class HibernateConfigUtil {
 
@@ -13,6 +14,7 @@ public class HibernateConfigUtil {
      */
     private final static String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
     private final static String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    private final static String MEMORY_MAX_SIZE = ".memory.max-size";
     private static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
 
     public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersistenceUnit config) {
@@ -29,6 +31,11 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory.objectCount.getAsLong()));
             }
+            if (cacheConfig.memory.maxSize.isPresent()
+                    && config.secondLevelCachingStorage == SecondLevelCachingStorage.OFF_HEAP) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_MAX_SIZE),
+                        String.valueOf(cacheConfig.memory.maxSize.get().asLongValue()));
+            }
         }
 
         return cacheRegionsConfigEntries;
@@ -75,6 +75,17 @@ public class HibernateOrmConfig {
     @ConfigItem(name = "metrics.enabled")
     public boolean metricsEnabled;
 
+    /**
+     * Whether the plans of the queries known at build time, such as the Panache queries passed as string literals,
+     * are prepared when the application starts, so that their first execution does not pay for parsing them.
+     *
+     * Finding these queries requires analyzing the bytecode of the application classes during the build.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean prepareQueryPlans;
+
     public boolean isAnyNonPersistenceXmlPropertySet() {
         // Do NOT include persistenceXml in here.
         return defaultPersistenceUnit.isAnyPropertySet() ||
@@ -17,6 +17,7 @@
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.TrimmedStringConverter;
 
 @ConfigGroup
@@ -219,6 +220,20 @@ public class HibernateOrmConfigPersistenceUnit {
     @ConfigItem(defaultValue = "true")
     public boolean secondLevelCachingEnabled;
 
+    /**
+     * Where the 2nd level caches store the cached state.
+     * <p>
+     * With {@code heap}, the default, the cached state is kept as objects on the Java heap.
+     * <p>
+     * With {@code off-heap}, the cached state is serialized and kept in direct memory, outside of the Java heap,
+     * which reduces the pressure of large caches on the garbage collector at the cost of (de)serializing the cached state.
+     * The size of each region can then be limited in bytes with
+     * `quarkus.hibernate-orm.cache."region".memory.max-size`.
+     * Cached entities must be serializable: direct reference cache entries are disabled with this storage.
+     */
+    @ConfigItem(defaultValue = "heap")
+    public SecondLevelCachingStorage secondLevelCachingStorage;
+
     /**
      * Bean Validation configuration.
      */
@@ -272,6 +287,7 @@ public boolean isAnyPropertySet() {
                 jdbc.isAnyPropertySet() ||
                 !cache.isEmpty() ||
                 !secondLevelCachingEnabled ||
+                secondLevelCachingStorage != SecondLevelCachingStorage.HEAP ||
                 multitenant.isPresent() ||
                 multitenantSchemaDatasource.isPresent() ||
                 fetch.isAnyPropertySet() ||
@@ -410,8 +426,22 @@ public static class HibernateOrmConfigPersistenceUnitJdbc {
         @ConfigItem
         public OptionalInt statementBatchSize;
 
+        /**
+         * Whether inserts are ordered by entity type and primary key before being sent to the database,
+         * so that consecutive inserts of the same entity type can be grouped in a single JDBC batch.
+         *
+         * Updates are always ordered.
+         *
+         * Defaults to `true` if `statement-batch-size` is greater than 1, `false` otherwise.
+         *
+         * @asciidoclet
+         */
+        @ConfigItem(defaultValueDocumentation = "true if statement-batch-size is greater than 1")
+        public Optional<Boolean> orderInserts;
+
         public boolean isAnyPropertySet() {
-            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent();
+            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent()
+                    || orderInserts.isPresent();
         }
     }
 
@@ -446,6 +476,15 @@ public static class HibernateOrmConfigPersistenceUnitCacheMemory {
          */
         @ConfigItem
         public OptionalLong objectCount;
+
+        /**
+         * The maximum size of the objects kept in the cache, e.g. `64M`.
+         * <p>
+         * Only taken into account with the `off-heap` 2nd level caching storage,
+         * in which case it takes precedence over the maximum number of objects.
+         */
+        @ConfigItem
+        public Optional<MemorySize> maxSize;
     }
 
     @ConfigGroup
@@ -496,6 +535,11 @@ public boolean isAnyPropertySet() {
         }
     }
 
+    public enum SecondLevelCachingStorage {
+        HEAP,
+        OFF_HEAP
+    }
+
     public enum IdentifierQuotingStrategy {
         NONE,
         ALL,
@@ -118,6 +118,7 @@
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.IdentifierQuotingStrategy;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCachingStorage;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.DatabaseKindDialectBuildItem;
@@ -132,6 +133,7 @@
 import io.quarkus.hibernate.orm.runtime.boot.xml.JAXBElementSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.QNameSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusOffHeapRegionFactory;
 import io.quarkus.hibernate.orm.runtime.cdi.QuarkusArcBeanContainer;
 import io.quarkus.hibernate.orm.runtime.devconsole.HibernateOrmDevConsoleCreateDDLSupplier;
 import io.quarkus.hibernate.orm.runtime.devconsole.HibernateOrmDevConsoleIntegrator;
@@ -742,9 +744,19 @@ public ServiceStartBuildItem startPersistenceUnits(HibernateOrmRecorder recorder
             List<JdbcDataSourceBuildItem> dataSourcesConfigured,
             JpaModelBuildItem jpaModel,
             List<JdbcDataSourceSchemaReadyBuildItem> schemaReadyBuildItem,
-            List<PersistenceProviderSetUpBuildItem> persistenceProviderSetUp) throws Exception {
+            List<PersistenceProviderSetUpBuildItem> persistenceProviderSetUp,
+            List<HqlQueryBuildItem> hqlQueries, HibernateOrmConfig hibernateOrmConfig) throws Exception {
         if (hasEntities(jpaModel)) {
             recorder.startAllPersistenceUnits(beanContainer.getValue());
+
+            if (hibernateOrmConfig.prepareQueryPlans && !hqlQueries.isEmpty()) {
+                Map<String, Set<String>> queriesPerPersistenceUnit = new HashMap<>();
+                for (HqlQueryBuildItem hqlQuery : hqlQueries) {
+                    queriesPerPersistenceUnit.computeIfAbsent(hqlQuery.getPersistenceUnitName(), k -> new HashSet<>())
+                            .add(hqlQuery.getQuery());
+                }
+                recorder.prepareQueryPlans(queriesPerPersistenceUnit);
+            }
         }
 
         return new ServiceStartBuildItem("Hibernate ORM");
@@ -1109,6 +1121,11 @@ private static void producePersistenceUnitDescriptorFromConfig(
                 fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
                         String.valueOf(fetchSize)));
 
+        // Ordering inserts is what makes batching effective when persisting entities of different types in a loop
+        if (persistenceUnitConfig.jdbc.orderInserts.orElse(persistenceUnitConfig.jdbc.statementBatchSize.orElse(1) > 1)) {
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        }
+
         // Statistics
         if (hibernateOrmConfig.metricsEnabled
                 || (hibernateOrmConfig.statistics.isPresent() && hibernateOrmConfig.statistics.get())) {
@@ -1163,6 +1180,11 @@ private static void producePersistenceUnitDescriptorFromConfig(
         // Caching
         if (persistenceUnitConfig.secondLevelCachingEnabled) {
             Properties p = descriptor.getProperties();
+            if (persistenceUnitConfig.secondLevelCachingStorage == SecondLevelCachingStorage.OFF_HEAP) {
+                p.put(AvailableSettings.CACHE_REGION_FACTORY, QuarkusOffHeapRegionFactory.class.getName());
+                // the cached state is serialized: direct references to entity instances cannot be stored
+                p.put(USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.FALSE);
+            }
             //Only set these if the user isn't making an explicit choice:
             p.putIfAbsent(USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.TRUE);
             p.putIfAbsent(USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
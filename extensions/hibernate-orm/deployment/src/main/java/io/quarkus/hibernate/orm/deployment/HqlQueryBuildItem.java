@@ -0,0 +1,33 @@
+package io.quarkus.hibernate.orm.deployment;
+
+import java.util.Objects;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A HQL/JPQL query string known at build time, for instance a literal query passed to Panache.
+ * <p>
+ * The query plan of each of these queries is created when the persistence unit starts,
+ * so that the first execution of the query does not pay for parsing and translating it,
+ * and so that invalid queries are reported on startup.
+ */
+public final class HqlQueryBuildItem extends MultiBuildItem {
+
+    private final String persistenceUnitName;
+    private final String query;
+
+    public HqlQueryBuildItem(String persistenceUnitName, String query) {
+        Objects.requireNonNull(persistenceUnitName);
+        Objects.requireNonNull(query);
+        this.persistenceUnitName = persistenceUnitName;
+        this.query = query;
+    }
+
+    public String getPersistenceUnitName() {
+        return persistenceUnitName;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+}
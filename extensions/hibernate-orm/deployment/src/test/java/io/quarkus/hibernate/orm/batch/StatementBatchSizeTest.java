@@ -0,0 +1,62 @@
+package io.quarkus.hibernate.orm.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusStatisticsBatchBuilder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementBatchSizeTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MainEntity.class)
+                    .addClass(OtherEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "5")
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testInsertsOrdered() {
+        assertThat(sessionFactory.getProperties()).containsEntry(AvailableSettings.ORDER_INSERTS, "true");
+    }
+
+    @Test
+    public void testBatchesCounted() throws Exception {
+        BatchBuilder batchBuilder = sessionFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(BatchBuilder.class);
+        assertThat(batchBuilder).isInstanceOf(QuarkusStatisticsBatchBuilder.class);
+        QuarkusStatisticsBatchBuilder statistics = (QuarkusStatisticsBatchBuilder) batchBuilder;
+        long executedBatches = statistics.getExecutedBatchCount();
+        long batchedStatements = statistics.getBatchedStatementCount();
+
+        transaction.begin();
+        for (int i = 0; i < 10; i++) {
+            session.persist(new OtherEntity());
+        }
+        transaction.commit();
+
+        assertThat(statistics.getExecutedBatchCount() - executedBatches).isEqualTo(2);
+        assertThat(statistics.getBatchedStatementCount() - batchedStatements).isEqualTo(10);
+    }
+}
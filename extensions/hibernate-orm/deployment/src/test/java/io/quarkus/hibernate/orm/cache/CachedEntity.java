@@ -0,0 +1,24 @@
+package io.quarkus.hibernate.orm.cache;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+@Entity
+@Cacheable
+public class CachedEntity {
+
+    @Id
+    @GeneratedValue
+    public Long id;
+
+    public String name;
+
+    public CachedEntity() {
+    }
+
+    public CachedEntity(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.hibernate.orm.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.cache.OffHeapStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusOffHeapRegionFactory;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OffHeapSecondLevelCacheTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CachedEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.second-level-caching-storage", "off-heap")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + CachedEntity.class.getName() + "\".memory.max-size",
+                    "4K");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testCachedStateStoredOffHeap() throws Exception {
+        RegionFactory regionFactory = sessionFactory.unwrap(SessionFactoryImplementor.class).getCache()
+                .getRegionFactory();
+        assertThat(regionFactory).isInstanceOf(QuarkusOffHeapRegionFactory.class);
+        Map<String, OffHeapStorageAccess> storageAccesses = ((QuarkusOffHeapRegionFactory) regionFactory)
+                .getStorageAccesses();
+        assertThat(storageAccesses).containsKey(CachedEntity.class.getName());
+        OffHeapStorageAccess storageAccess = storageAccesses.get(CachedEntity.class.getName());
+
+        transaction.begin();
+        CachedEntity entity = new CachedEntity("foo");
+        session.persist(entity);
+        transaction.commit();
+        session.clear();
+
+        transaction.begin();
+        sessionFactory.getCache().evictEntityData(CachedEntity.class);
+        assertThat(session.find(CachedEntity.class, entity.id).name).isEqualTo("foo");
+        transaction.commit();
+        session.clear();
+
+        assertThat(sessionFactory.getCache().contains(CachedEntity.class, entity.id)).isTrue();
+        assertThat(storageAccess.getEntryCount()).isPositive();
+        assertThat(storageAccess.getSizeInBytes()).isPositive();
+
+        transaction.begin();
+        assertThat(session.find(CachedEntity.class, entity.id).name).isEqualTo("foo");
+        transaction.commit();
+    }
+
+    @Test
+    public void testRegionBoundedInBytes() throws Exception {
+        QuarkusOffHeapRegionFactory regionFactory = (QuarkusOffHeapRegionFactory) sessionFactory
+                .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        OffHeapStorageAccess storageAccess = regionFactory.getStorageAccesses().get(CachedEntity.class.getName());
+
+        transaction.begin();
+        for (int i = 0; i < 100; i++) {
+            session.persist(new CachedEntity("entity" + i));
+        }
+        transaction.commit();
+        session.clear();
+
+        assertThat(storageAccess.getSizeInBytes()).isLessThanOrEqualTo(4096);
+        assertThat(storageAccess.getEvictionCount()).isPositive();
+    }
+}
@@ -2,6 +2,7 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,6 +15,8 @@
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionLazyDelegator;
 import org.hibernate.integrator.spi.Integrator;
 import org.jboss.logging.Logger;
@@ -95,6 +98,36 @@ public void startAllPersistenceUnits(BeanContainer beanContainer) {
         beanContainer.beanInstance(JPAConfig.class).startAll();
     }
 
+    public void prepareQueryPlans(Map<String, Set<String>> queriesPerPersistenceUnit) {
+        JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
+        for (Map.Entry<String, Set<String>> entry : queriesPerPersistenceUnit.entrySet()) {
+            String persistenceUnitName = entry.getKey();
+            if (!jpaConfig.getPersistenceUnits().contains(persistenceUnitName)) {
+                // deactivated persistence unit
+                continue;
+            }
+            QueryPlanCache queryPlanCache = queryPlanCache(jpaConfig.getEntityManagerFactory(persistenceUnitName)
+                    .unwrap(SessionFactoryImplementor.class));
+            for (String query : entry.getValue()) {
+                try {
+                    // same key as the one used by sessions without enabled filters
+                    queryPlanCache.getHQLQueryPlan(query, false, Collections.emptyMap());
+                } catch (RuntimeException e) {
+                    Logger.getLogger("io.quarkus.hibernate.orm").warnf(e,
+                            "Unable to prepare the plan of query '%s' for persistence unit '%s'", query,
+                            persistenceUnitName);
+                }
+            }
+        }
+    }
+
+    // Hibernate ORM 5 has no other way to access the plan cache: the alternative, creating the queries from a session,
+    // would fail when the persistence unit is multi-tenant, as there is no current tenant on startup
+    @SuppressWarnings("deprecation")
+    private static QueryPlanCache queryPlanCache(SessionFactoryImplementor sessionFactory) {
+        return sessionFactory.getQueryPlanCache();
+    }
+
     public Supplier<SessionFactory> sessionFactorySupplier(String persistenceUnitName) {
         return new Supplier<SessionFactory>() {
             @Override
@@ -0,0 +1,135 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of direct memory blocks shared by the off-heap regions of a region factory.
+ * <p>
+ * Direct buffers are only freed when garbage collected, so allocating one buffer per cached entry would exhaust the
+ * direct memory when the cache churns. Instead, the memory is allocated in slabs, split into blocks whose size is a
+ * power of two, and the blocks are explicitly returned to the pool when their entry is removed from the cache, to be
+ * reused by the next entries. Entries larger than the largest block are stored in several blocks.
+ * <p>
+ * The memory of the pool is kept until the pool is {@link #clear() cleared}, so it is bounded by the peak size of the
+ * cached entries.
+ */
+final class OffHeapMemoryPool {
+
+    static final int MIN_BLOCK_SIZE = 64;
+    static final int MAX_BLOCK_SIZE = 64 * 1024;
+    static final int SLAB_SIZE = 1024 * 1024;
+
+    private static final int MIN_BLOCK_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+
+    private final SizeClass[] sizeClasses;
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    OffHeapMemoryPool() {
+        int count = Integer.numberOfTrailingZeros(MAX_BLOCK_SIZE) - MIN_BLOCK_SHIFT + 1;
+        sizeClasses = new SizeClass[count];
+        for (int i = 0; i < count; i++) {
+            sizeClasses[i] = new SizeClass(MIN_BLOCK_SIZE << i);
+        }
+    }
+
+    /**
+     * Allocates blocks able to hold the given number of bytes.
+     *
+     * @param length the number of bytes
+     * @return the blocks, cleared; all of them are full-sized except maybe the last one
+     */
+    ByteBuffer[] allocate(int length) {
+        int fullBlocks = length / MAX_BLOCK_SIZE;
+        int remainder = length % MAX_BLOCK_SIZE;
+        ByteBuffer[] blocks = new ByteBuffer[fullBlocks + (remainder > 0 || length == 0 ? 1 : 0)];
+        for (int i = 0; i < fullBlocks; i++) {
+            blocks[i] = sizeClasses[sizeClasses.length - 1].allocate();
+        }
+        if (fullBlocks < blocks.length) {
+            blocks[fullBlocks] = sizeClassOf(remainder).allocate();
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns blocks obtained from {@link #allocate(int)} to the pool. They must not be used afterwards.
+     *
+     * @param blocks the blocks
+     */
+    void free(ByteBuffer[] blocks) {
+        for (ByteBuffer block : blocks) {
+            block.clear();
+            sizeClassOf(block.capacity()).free.offer(block);
+        }
+    }
+
+    /**
+     * Drops the references to the free blocks, so that their memory can be reclaimed.
+     * It is expected to be called once all the entries have been removed from the regions using this pool.
+     */
+    void clear() {
+        for (SizeClass sizeClass : sizeClasses) {
+            sizeClass.clear();
+        }
+    }
+
+    /**
+     * @return the size in bytes of the direct memory allocated by this pool
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    private SizeClass sizeClassOf(int length) {
+        if (length <= MIN_BLOCK_SIZE) {
+            return sizeClasses[0];
+        }
+        int shift = 32 - Integer.numberOfLeadingZeros(length - 1);
+        return sizeClasses[shift - MIN_BLOCK_SHIFT];
+    }
+
+    private final class SizeClass {
+
+        private final int blockSize;
+        private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+        // guarded by this: the slab the next blocks are carved from
+        private ByteBuffer slab;
+        private int slabOffset;
+        private long carvedBytes;
+
+        SizeClass(int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        ByteBuffer allocate() {
+            ByteBuffer block = free.poll();
+            if (block != null) {
+                return block;
+            }
+            synchronized (this) {
+                if (slab == null || slabOffset == SLAB_SIZE) {
+                    slab = ByteBuffer.allocateDirect(SLAB_SIZE);
+                    slabOffset = 0;
+                    allocatedBytes.add(SLAB_SIZE);
+                }
+                slab.limit(slabOffset + blockSize).position(slabOffset);
+                slabOffset += blockSize;
+                carvedBytes += blockSize;
+                return slab.slice();
+            }
+        }
+
+        synchronized void clear() {
+            free.clear();
+            if (slab != null) {
+                allocatedBytes.add(-(carvedBytes + SLAB_SIZE - slabOffset));
+            }
+            slab = null;
+            carvedBytes = 0;
+        }
+    }
+}
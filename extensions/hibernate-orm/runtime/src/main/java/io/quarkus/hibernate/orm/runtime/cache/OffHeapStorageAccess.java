@@ -0,0 +1,252 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * Storage of a second-level cache region keeping the serialized cached state in direct {@link ByteBuffer}s,
+ * outside of the Java heap.
+ * <p>
+ * Only the keys and the small buffer handles are kept on the heap. The buffers are blocks of an
+ * {@link OffHeapMemoryPool}, returned to the pool when the entry is removed from the region and no longer read.
+ * The region is bounded either by the total size in bytes of the blocks or by a number of entries.
+ */
+public final class OffHeapStorageAccess implements DomainDataStorageAccess {
+
+    private static final Logger LOG = Logger.getLogger(OffHeapStorageAccess.class);
+
+    private final String regionName;
+    private final OffHeapMemoryPool pool;
+    private final Cache<Object, Entry> cache;
+    private final LongAdder sizeInBytes = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param regionName the name of the region
+     * @param pool the pool allocating the memory of the entries
+     * @param maxSizeInBytes the maximum size in bytes of the memory blocks holding the entries, or a negative value
+     * @param maxEntries the maximum number of entries, or a negative value; ignored if {@code maxSizeInBytes} is set
+     * @param maxIdle the time after which an entry that has not been accessed expires, or {@code null}
+     */
+    OffHeapStorageAccess(String regionName, OffHeapMemoryPool pool, long maxSizeInBytes, long maxEntries,
+            Duration maxIdle) {
+        this.regionName = regionName;
+        this.pool = pool;
+        Caffeine<Object, Entry> builder = Caffeine.newBuilder()
+                // keep the accounting of the off-heap memory in sync with the removals, and release the memory early
+                .executor(Runnable::run)
+                .removalListener((Object key, Entry value, RemovalCause cause) -> {
+                    if (value != null) {
+                        sizeInBytes.add(-value.capacity);
+                        value.release();
+                    }
+                    if (cause.wasEvicted()) {
+                        evictionCount.increment();
+                    }
+                });
+        if (maxSizeInBytes >= 0) {
+            builder.maximumWeight(maxSizeInBytes)
+                    .weigher((Object key, Entry value) -> (int) Math.min(Integer.MAX_VALUE, value.capacity));
+        } else if (maxEntries >= 0) {
+            builder.maximumSize(maxEntries);
+        }
+        if (maxIdle != null) {
+            builder.expireAfterAccess(maxIdle);
+        }
+        this.cache = builder.build();
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Entry entry = cache.getIfPresent(key);
+        // the entry might have been removed, and its memory reused, concurrently
+        if (entry == null || !entry.retain()) {
+            return null;
+        }
+        try {
+            return SerializationHelper.deserialize(new BlocksInputStream(entry));
+        } catch (SerializationException e) {
+            // the classes might have changed, e.g. on live reload: consider it a miss
+            LOG.debugf(e, "Unable to read the cached entry %s of region %s", key, regionName);
+            cache.asMap().remove(key, entry);
+            return null;
+        } finally {
+            entry.release();
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        byte[] bytes;
+        try {
+            bytes = SerializationHelper.serialize((Serializable) value);
+        } catch (ClassCastException | SerializationException e) {
+            // never keep a stale value around if the new one cannot be cached
+            LOG.debugf(e, "Unable to serialize the entry %s of region %s, it will not be cached", key, regionName);
+            cache.invalidate(key);
+            return;
+        }
+        Entry entry = new Entry(pool.allocate(bytes.length), bytes.length);
+        int offset = 0;
+        for (ByteBuffer block : entry.blocks) {
+            int length = Math.min(block.capacity(), bytes.length - offset);
+            block.put(bytes, offset, length).flip();
+            offset += length;
+        }
+        sizeInBytes.add(entry.capacity);
+        cache.put(key, entry);
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    /**
+     * @return the number of entries currently cached
+     */
+    public long getEntryCount() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @return the size in bytes of the memory blocks holding the entries currently cached
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes.sum();
+    }
+
+    /**
+     * @return the number of entries removed from the cache because of its size limits or expiration
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * A cached entry, made of pooled blocks. The blocks are returned to the pool once the entry is removed from the
+     * cache and no longer read.
+     */
+    private final class Entry {
+
+        private final ByteBuffer[] blocks;
+        private final int length;
+        private final long capacity;
+        // 1 for the cache, plus 1 for each ongoing read
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        Entry(ByteBuffer[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+            long capacity = 0;
+            for (ByteBuffer block : blocks) {
+                capacity += block.capacity();
+            }
+            this.capacity = capacity;
+        }
+
+        boolean retain() {
+            for (;;) {
+                int current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                pool.free(blocks);
+            }
+        }
+    }
+
+    private static final class BlocksInputStream extends InputStream {
+
+        private final ByteBuffer[] blocks;
+        private int index;
+        private int remaining;
+
+        BlocksInputStream(Entry entry) {
+            this.blocks = new ByteBuffer[entry.blocks.length];
+            for (int i = 0; i < blocks.length; i++) {
+                // the position of the blocks is shared with the concurrent reads
+                blocks[i] = entry.blocks[i].duplicate();
+            }
+            this.remaining = entry.length;
+        }
+
+        private ByteBuffer current() {
+            while (!blocks[index].hasRemaining() && index < blocks.length - 1) {
+                index++;
+            }
+            return blocks[index];
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return current().get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            ByteBuffer block = current();
+            int read = Math.min(length, block.remaining());
+            block.get(bytes, offset, read);
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A second-level cache region factory storing the cached state serialized, outside of the Java heap.
+ * <p>
+ * It understands the same per-region properties as the default region factory,
+ * plus a maximum size in bytes for each region.
+ */
+public final class QuarkusOffHeapRegionFactory extends RegionFactoryTemplate {
+
+    public static final String PREFIX = "hibernate.cache.";
+    public static final String MAX_SIZE_SUFFIX = ".memory.max-size";
+    public static final String OBJECT_COUNT_SUFFIX = ".memory.object-count";
+    public static final String MAX_IDLE_SUFFIX = ".expiration.max-idle";
+
+    // same defaults as the default region factory
+    private static final long DEFAULT_OBJECT_COUNT = 10_000;
+    private static final Duration DEFAULT_MAX_IDLE = Duration.ofSeconds(100);
+
+    private final Map<String, OffHeapStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+    private final OffHeapMemoryPool pool = new OffHeapMemoryPool();
+    private Map<?, ?> configValues;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        for (OffHeapStorageAccess storageAccess : storageAccesses.values()) {
+            storageAccess.release();
+        }
+        storageAccesses.clear();
+        pool.clear();
+        configValues = null;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, true);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        // evicting update timestamps would lead to stale query results being used: never bound this region
+        return createStorageAccess(regionName, false);
+    }
+
+    /**
+     * @return the storage of each region created by this factory, by region name
+     */
+    public Map<String, OffHeapStorageAccess> getStorageAccesses() {
+        return Collections.unmodifiableMap(storageAccesses);
+    }
+
+    private OffHeapStorageAccess createStorageAccess(String regionName, boolean bounded) {
+        OffHeapStorageAccess storageAccess;
+        if (bounded) {
+            long maxSize = getLong(regionName, MAX_SIZE_SUFFIX, -1);
+            long objectCount = getLong(regionName, OBJECT_COUNT_SUFFIX, DEFAULT_OBJECT_COUNT);
+            long maxIdle = getLong(regionName, MAX_IDLE_SUFFIX, DEFAULT_MAX_IDLE.getSeconds());
+            storageAccess = new OffHeapStorageAccess(regionName, pool, maxSize, objectCount, Duration.ofSeconds(maxIdle));
+        } else {
+            storageAccess = new OffHeapStorageAccess(regionName, pool, -1, -1, null);
+        }
+        storageAccesses.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private long getLong(String regionName, String suffix, long defaultValue) {
+        Object value = configValues.get(PREFIX + regionName + suffix);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.hibernate.orm.runtime.customized;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.UnmodifiableBatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Replaces {@link UnmodifiableBatchBuilderInitiator}: same behaviour, but when statistics are enabled
+ * the batches are also counted so that the achieved batch sizes can be exposed as metrics.
+ */
+public final class QuarkusBatchBuilderInitiator implements StandardServiceInitiator<BatchBuilder> {
+
+    public static final QuarkusBatchBuilderInitiator INSTANCE = new QuarkusBatchBuilderInitiator();
+
+    @Override
+    public Class<BatchBuilder> getServiceInitiated() {
+        return BatchBuilder.class;
+    }
+
+    @Override
+    public BatchBuilder initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+        BatchBuilder batchBuilder = UnmodifiableBatchBuilderInitiator.INSTANCE.initiateService(configurationValues,
+                registry);
+        if (ConfigurationHelper.getBoolean(AvailableSettings.GENERATE_STATISTICS, configurationValues, false)) {
+            return new QuarkusStatisticsBatchBuilder(batchBuilder);
+        }
+        return batchBuilder;
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.hibernate.orm.runtime.customized;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+/**
+ * A {@link BatchBuilder} counting the JDBC batches executed and the statements they contained.
+ * <p>
+ * The ratio between the two is the average batch size actually achieved, which is what matters
+ * when tuning {@code quarkus.hibernate-orm.jdbc.statement-batch-size}.
+ */
+public final class QuarkusStatisticsBatchBuilder implements BatchBuilder {
+
+    private final BatchBuilder delegate;
+    private final LongAdder executedBatches = new LongAdder();
+    private final LongAdder batchedStatements = new LongAdder();
+
+    QuarkusStatisticsBatchBuilder(BatchBuilder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+        return new CountingBatch(delegate.buildBatch(key, jdbcCoordinator));
+    }
+
+    /**
+     * @return the number of JDBC batches executed
+     */
+    public long getExecutedBatchCount() {
+        return executedBatches.sum();
+    }
+
+    /**
+     * @return the number of statements executed as part of a JDBC batch
+     */
+    public long getBatchedStatementCount() {
+        return batchedStatements.sum();
+    }
+
+    private final class CountingBatch implements Batch, BatchObserver {
+
+        private final Batch delegate;
+        // a batch is only ever used by a single session, hence a single thread
+        private int pendingStatements;
+
+        CountingBatch(Batch delegate) {
+            this.delegate = delegate;
+            delegate.addObserver(this);
+        }
+
+        @Override
+        public BatchKey getKey() {
+            return delegate.getKey();
+        }
+
+        @Override
+        public void addObserver(BatchObserver observer) {
+            delegate.addObserver(observer);
+        }
+
+        @Override
+        public PreparedStatement getBatchStatement(String sql, boolean callable) {
+            return delegate.getBatchStatement(sql, callable);
+        }
+
+        @Override
+        public void addToBatch() {
+            // incremented first: the delegate notifies the observers from within addToBatch()
+            // when the batch is full and executed implicitly
+            pendingStatements++;
+            delegate.addToBatch();
+        }
+
+        @Override
+        public void execute() {
+            delegate.execute();
+        }
+
+        @Override
+        public void release() {
+            pendingStatements = 0;
+            delegate.release();
+        }
+
+        @Override
+        public void batchExplicitlyExecuted() {
+            recordExecution();
+        }
+
+        @Override
+        public void batchImplicitlyExecuted() {
+            recordExecution();
+        }
+
+        private void recordExecution() {
+            if (pendingStatements > 0) {
+                executedBatches.increment();
+                batchedStatements.add(pendingStatements);
+                pendingStatements = 0;
+            }
+        }
+    }
+}
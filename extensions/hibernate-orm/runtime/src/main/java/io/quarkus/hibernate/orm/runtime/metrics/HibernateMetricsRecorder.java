@@ -6,11 +6,17 @@
 import java.util.function.Function;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.cache.OffHeapStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusOffHeapRegionFactory;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusStatisticsBatchBuilder;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -31,6 +37,17 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        SessionFactoryImplementor sessionFactoryImplementor = sessionFactory
+                                .unwrap(SessionFactoryImplementor.class);
+                        BatchBuilder batchBuilder = sessionFactoryImplementor.getServiceRegistry()
+                                .getService(BatchBuilder.class);
+                        if (batchBuilder instanceof QuarkusStatisticsBatchBuilder) {
+                            registerBatchMetrics(metricsFactory, puName, (QuarkusStatisticsBatchBuilder) batchBuilder);
+                        }
+                        RegionFactory regionFactory = sessionFactoryImplementor.getCache().getRegionFactory();
+                        if (regionFactory instanceof QuarkusOffHeapRegionFactory) {
+                            registerOffHeapCacheMetrics(metricsFactory, puName, (QuarkusOffHeapRegionFactory) regionFactory);
+                        }
                     }
                 }
             }
@@ -203,6 +220,51 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register JDBC batching metrics: dividing the number of batched statements by the number of batches
+     * gives the average batch size achieved.
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param batchBuilder Batch builder counting the batches for persistence unit
+     */
+    void registerBatchMetrics(MetricsFactory metricsFactory, String puName, QuarkusStatisticsBatchBuilder batchBuilder) {
+        createStatisticsCounter(metricsFactory, "hibernate.statements.batches",
+                "The number of JDBC batches executed",
+                puName, batchBuilder, QuarkusStatisticsBatchBuilder::getExecutedBatchCount);
+        createStatisticsCounter(metricsFactory, "hibernate.statements.batched",
+                "The number of statements executed as part of JDBC batches",
+                puName, batchBuilder, QuarkusStatisticsBatchBuilder::getBatchedStatementCount);
+    }
+
+    /**
+     * Register the metrics of the off-heap second level cache regions, which complement the per-region
+     * requests and puts available from the Hibernate statistics.
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param regionFactory Off-heap region factory for persistence unit
+     */
+    void registerOffHeapCacheMetrics(MetricsFactory metricsFactory, String puName,
+            QuarkusOffHeapRegionFactory regionFactory) {
+        for (OffHeapStorageAccess storageAccess : regionFactory.getStorageAccesses().values()) {
+            String regionName = storageAccess.getRegionName();
+            createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.evictions",
+                    "The number of entries evicted from the second level cache because of its size limits or expiration",
+                    puName, storageAccess, OffHeapStorageAccess::getEvictionCount,
+                    "region", regionName);
+            createBuilder(metricsFactory, "hibernate.second.level.cache.entries",
+                    "The number of entries in the second level cache",
+                    puName, "region", regionName)
+                    .buildGauge(storageAccess, OffHeapStorageAccess::getEntryCount);
+            createBuilder(metricsFactory, "hibernate.second.level.cache.size",
+                    "The size of the entries stored off-heap by the second level cache",
+                    puName, "region", regionName)
+                    .unit("bytes")
+                    .buildGauge(storageAccess, OffHeapStorageAccess::getSizeInBytes);
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
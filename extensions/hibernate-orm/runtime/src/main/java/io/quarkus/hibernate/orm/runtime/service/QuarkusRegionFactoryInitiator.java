@@ -12,6 +12,8 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusOffHeapRegionFactory;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +46,11 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
+        if (QuarkusOffHeapRegionFactory.class.getName()
+                .equals(configurationValues.get(AvailableSettings.CACHE_REGION_FACTORY))) {
+            return new QuarkusOffHeapRegionFactory();
+        }
+
         return new QuarkusInfinispanRegionFactory();
     }
 
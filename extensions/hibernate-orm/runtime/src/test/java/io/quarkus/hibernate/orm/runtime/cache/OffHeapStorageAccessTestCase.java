@@ -0,0 +1,76 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapStorageAccessTestCase {
+
+    @Test
+    public void memoryReusedOnChurn() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+        OffHeapStorageAccess storageAccess = new OffHeapStorageAccess("region", pool, 64 * 1024, -1, null);
+
+        for (int i = 0; i < 100_000; i++) {
+            storageAccess.putIntoCache(i, "value" + i, null);
+        }
+
+        assertThat(storageAccess.getEvictionCount()).isPositive();
+        assertThat(storageAccess.getSizeInBytes()).isLessThanOrEqualTo(64 * 1024);
+        // the evicted entries released their memory, which was reused instead of allocating new buffers
+        assertThat(pool.getAllocatedBytes()).isEqualTo(OffHeapMemoryPool.SLAB_SIZE);
+    }
+
+    @Test
+    public void memoryReleasedOnRemoval() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+        OffHeapStorageAccess storageAccess = new OffHeapStorageAccess("region", pool, -1, -1, null);
+
+        for (int i = 0; i < 100; i++) {
+            storageAccess.putIntoCache("key", "value" + i, null);
+            assertThat(storageAccess.getFromCache("key", null)).isEqualTo("value" + i);
+            storageAccess.evictData("key");
+            assertThat(storageAccess.getFromCache("key", null)).isNull();
+        }
+
+        assertThat(storageAccess.getSizeInBytes()).isZero();
+        assertThat(pool.getAllocatedBytes()).isEqualTo(OffHeapMemoryPool.SLAB_SIZE);
+
+        storageAccess.release();
+        pool.clear();
+        assertThat(pool.getAllocatedBytes()).isZero();
+    }
+
+    @Test
+    public void entryLargerThanBlock() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+        OffHeapStorageAccess storageAccess = new OffHeapStorageAccess("region", pool, -1, -1, null);
+        byte[] value = new byte[3 * OffHeapMemoryPool.MAX_BLOCK_SIZE + 10];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = (byte) i;
+        }
+
+        storageAccess.putIntoCache("key", value, null);
+
+        assertThat((byte[]) storageAccess.getFromCache("key", null)).isEqualTo(value);
+        assertThat(storageAccess.getSizeInBytes()).isGreaterThan(value.length);
+    }
+
+    @Test
+    public void poolSizeClasses() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+
+        assertThat(capacities(pool.allocate(1))).containsExactly(OffHeapMemoryPool.MIN_BLOCK_SIZE);
+        assertThat(capacities(pool.allocate(65))).containsExactly(128);
+        assertThat(capacities(pool.allocate(4096))).containsExactly(4096);
+        assertThat(capacities(pool.allocate(OffHeapMemoryPool.MAX_BLOCK_SIZE + 1)))
+                .containsExactly(OffHeapMemoryPool.MAX_BLOCK_SIZE, OffHeapMemoryPool.MIN_BLOCK_SIZE);
+    }
+
+    private static int[] capacities(ByteBuffer[] blocks) {
+        return Arrays.stream(blocks).mapToInt(ByteBuffer::capacity).toArray();
+    }
+}
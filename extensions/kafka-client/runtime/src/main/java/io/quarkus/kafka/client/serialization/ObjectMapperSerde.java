@@ -21,7 +21,7 @@ public ObjectMapperSerde(Class<T> type) {
     }
 
     public ObjectMapperSerde(Class<T> type, ObjectMapper objectMapper) {
-        this.serializer = new ObjectMapperSerializer<T>(objectMapper);
+        this.serializer = new ObjectMapperSerializer<T>(type, objectMapper);
         this.deserializer = new ObjectMapperDeserializer<T>(type, objectMapper);
     }
 
@@ -1,21 +1,25 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
-import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
- * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * A {@link Serializer} that serializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * When the type of the records is known, the writer of this type is resolved once, when the serializer is created, and
+ * used for the records of exactly this type. The records are written to the recycled buffers of Jackson.
  */
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
-    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final ObjectWriter typeWriter;
+    private final ObjectWriter writer;
 
     private boolean nullAsNull = false;
 
@@ -24,7 +28,18 @@ public ObjectMapperSerializer() {
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this(null, objectMapper);
+    }
+
+    public ObjectMapperSerializer(Class<T> type) {
+        this(type, ObjectMapperProducer.get());
+    }
+
+    public ObjectMapperSerializer(Class<T> type, ObjectMapper objectMapper) {
+        this.type = type;
+        this.writer = objectMapper.writer();
+        // A writer for a given type ignores the properties of its subclasses
+        this.typeWriter = type != null ? objectMapper.writerFor(type) : writer;
     }
 
     @Override
@@ -40,9 +55,8 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            return (data != null && data.getClass() == type ? typeWriter : writer).writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -20,6 +20,26 @@ void shouldSerializeEntity() {
         assertEquals("{\"id\":1,\"name\":\"entity1\"}", new String(result));
     }
 
+    @Test
+    void shouldSerializeEntityOfGivenType() {
+        ObjectMapperSerializer<MyEntity> serializer = new ObjectMapperSerializer<>(MyEntity.class);
+        MyEntity entity = new MyEntity(1, "entity1");
+        byte[] result = serializer.serialize("topic", entity);
+        assertNotNull(result);
+        assertEquals("{\"id\":1,\"name\":\"entity1\"}", new String(result));
+    }
+
+    @Test
+    void shouldSerializeSubclassOfGivenType() {
+        ObjectMapperSerializer<MyEntity> serializer = new ObjectMapperSerializer<>(MyEntity.class);
+        MyEntity entity = new MyEntity(1, "entity1") {
+            public String description = "description1";
+        };
+        byte[] result = serializer.serialize("topic", entity);
+        assertNotNull(result);
+        assertEquals("{\"id\":1,\"name\":\"entity1\",\"description\":\"description1\"}", new String(result));
+    }
+
     @Test
     void shouldSerializeListOfEntities() {
         ObjectMapperSerializer<List<MyEntity>> serializer = new ObjectMapperSerializer<>();
@@ -46,4 +66,12 @@ void shouldSerializeNullAsNull() {
         assertNull(results);
     }
 
+    @Test
+    void shouldSerializeNullOfGivenTypeAsNullString() {
+        ObjectMapperSerializer<MyEntity> serializer = new ObjectMapperSerializer<>(MyEntity.class);
+        byte[] results = serializer.serialize("topic", null);
+        assertNotNull(results);
+        assertEquals("null", new String(results));
+    }
+
 }
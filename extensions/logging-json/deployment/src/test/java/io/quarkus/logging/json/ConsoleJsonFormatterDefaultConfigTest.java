@@ -11,6 +11,8 @@
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
 import org.jboss.logmanager.formatters.StructuredFormatter;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,29 @@ public void jsonFormatterDefaultConfigurationTest() {
         assertThat(jsonFormatter.getAdditionalFields().entrySet()).isEmpty();
     }
 
+    @Test
+    public void jsonFormatterOutputTest() {
+        JsonFormatter jsonFormatter = getJsonFormatter();
+        org.jboss.logmanager.formatters.JsonFormatter reference = new org.jboss.logmanager.formatters.JsonFormatter();
+        reference.setZoneId(jsonFormatter.getZoneId().getId());
+        reference.setExceptionOutputType(jsonFormatter.getExceptionOutputType());
+        reference.setRecordDelimiter(jsonFormatter.getRecordDelimiter());
+
+        MDC.put("key \"1\"", "value\t\u0001");
+        try {
+            IllegalStateException exception = new IllegalStateException("Boom \\o/", new RuntimeException("Cause"));
+            exception.addSuppressed(new RuntimeException("Suppressed"));
+            ExtLogRecord record = new ExtLogRecord(Level.WARNING, "Hello, \"World\"!\n", getClass().getName());
+            record.setThrown(exception);
+            record.copyAll();
+
+            // Written without a jakarta.json generator, the output is the same
+            assertThat(jsonFormatter.format(record)).isEqualTo(reference.format(record));
+        } finally {
+            MDC.remove("key \"1\"");
+        }
+    }
+
     public static JsonFormatter getJsonFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
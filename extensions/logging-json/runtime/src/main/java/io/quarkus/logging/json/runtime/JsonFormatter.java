@@ -1,18 +1,37 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import jakarta.json.JsonValue;
+
 import org.jboss.logmanager.ExtLogRecord;
 
+/**
+ * A JSON formatter adding the excluded keys and the additional fields to the one of the log manager.
+ * <p>
+ * Unless pretty printing is enabled, the records are not written through a {@code jakarta.json} generator: a single
+ * {@link DirectGenerator} is reused to write them straight into the buffer of the formatter, with the quoted and
+ * escaped field names computed once, producing the same output without allocating per record. The record formatting
+ * is synchronized by {@link org.jboss.logmanager.formatters.StructuredFormatter}, which guards this generator.
+ */
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
     private Set<String> excludedKeys;
     private Map<String, AdditionalFieldConfig> additionalFields;
 
+    /** Only accessed while formatting a record */
+    private DirectGenerator directGenerator;
+    /** The additional fields, written as a JSON fragment, {@code null} until first needed */
+    private volatile String additionalFieldsFragment;
+
     /**
      * Creates a new JSON formatter.
      *
@@ -58,6 +77,7 @@ public Set<String> getExcludedKeys() {
 
     public void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        this.additionalFieldsFragment = null;
     }
 
     public Map<String, AdditionalFieldConfig> getAdditionalFields() {
@@ -66,16 +86,48 @@ public Map<String, AdditionalFieldConfig> getAdditionalFields() {
 
     public void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
         this.additionalFields = additionalFields;
+        this.additionalFieldsFragment = null;
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
-        Generator superGenerator = super.createGenerator(writer);
-        return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        if (isPrettyPrint()) {
+            Generator superGenerator = super.createGenerator(writer);
+            return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        }
+        DirectGenerator generator = this.directGenerator;
+        if (generator == null || generator.writer != writer || generator.excludedKeys != this.excludedKeys) {
+            generator = new DirectGenerator(writer, this.excludedKeys);
+            this.directGenerator = generator;
+        }
+        return generator.reset();
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator instanceof DirectGenerator) {
+            String fragment = this.additionalFieldsFragment;
+            if (fragment == null) {
+                fragment = additionalFieldsFragment();
+                this.additionalFieldsFragment = fragment;
+            }
+            ((DirectGenerator) generator).writeFields(fragment);
+            return;
+        }
+        addAdditionalFields(generator);
+    }
+
+    /**
+     * Writes the additional fields once, with a generator writing into a string.
+     */
+    private String additionalFieldsFragment() throws Exception {
+        StringBuilderWriter writer = new StringBuilderWriter();
+        DirectGenerator generator = new DirectGenerator(writer, this.excludedKeys).reset();
+        addAdditionalFields(generator);
+        return writer.builder.toString();
+    }
+
+    private void addAdditionalFields(final Generator generator) throws Exception {
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type) {
                 case STRING:
@@ -91,6 +143,308 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    /**
+     * A generator writing compact JSON directly into the writer, escaping the strings like the {@code jakarta.json}
+     * generator. Only the values of objects and arrays can be written without a key.
+     */
+    static final class DirectGenerator implements Generator {
+        /** The maximum number of field names whose quoted and escaped form is kept */
+        private static final int MAX_CACHED_NAMES = 512;
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final Writer writer;
+        private final Set<String> excludedKeys;
+        private final Map<String, String> names = new HashMap<>();
+        /** The digits of the numbers, and the escaped characters */
+        private final char[] buffer = new char[20];
+        /** Whether the current object or array of each level already has a member */
+        private boolean[] hasMember = new boolean[8];
+        private int depth;
+
+        DirectGenerator(final Writer writer, final Set<String> excludedKeys) {
+            this.writer = writer;
+            this.excludedKeys = excludedKeys;
+        }
+
+        DirectGenerator reset() {
+            depth = 0;
+            hasMember[0] = false;
+            return this;
+        }
+
+        @Override
+        public Generator begin() throws Exception {
+            open('{');
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final int value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                name(key);
+                writeLong(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                name(key);
+                writeLong(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final Map<String, ?> value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                name(key);
+                if (value == null) {
+                    writer.write("null");
+                } else {
+                    open('{');
+                    for (Map.Entry<String, ?> entry : value.entrySet()) {
+                        name(entry.getKey());
+                        writeObject(entry.getValue());
+                    }
+                    close('}');
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final String value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                name(key);
+                if (value == null) {
+                    writer.write("null");
+                } else {
+                    writeString(value);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Generator startObject(final String key) throws Exception {
+            name(key);
+            open('{');
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws Exception {
+            close('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(final String key) throws Exception {
+            name(key);
+            open('[');
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws Exception {
+            close(']');
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            close('}');
+            writer.flush();
+            return this;
+        }
+
+        /**
+         * Writes members already written as JSON, separated by commas, in the current object.
+         */
+        void writeFields(final String fields) throws IOException {
+            if (!fields.isEmpty()) {
+                separator();
+                writer.write(fields);
+            }
+        }
+
+        private void open(final char c) throws IOException {
+            writer.write(c);
+            if (++depth == hasMember.length) {
+                hasMember = Arrays.copyOf(hasMember, depth * 2);
+            }
+            hasMember[depth] = false;
+        }
+
+        private void close(final char c) throws IOException {
+            writer.write(c);
+            depth--;
+        }
+
+        private void separator() throws IOException {
+            if (hasMember[depth]) {
+                writer.write(',');
+            } else {
+                hasMember[depth] = true;
+            }
+        }
+
+        /**
+         * Writes the separator and the name of the next member, if any.
+         */
+        private void name(final String key) throws IOException {
+            separator();
+            if (key == null) {
+                return;
+            }
+            String name = names.get(key);
+            if (name == null) {
+                name = escape(key) + ':';
+                if (names.size() < MAX_CACHED_NAMES) {
+                    names.put(key, name);
+                }
+            }
+            writer.write(name);
+        }
+
+        private void writeObject(final Object value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                    || value instanceof BigInteger || value instanceof BigDecimal) {
+                writer.write(value.toString());
+            } else if (value instanceof Double) {
+                double d = (Double) value;
+                if (Double.isNaN(d) || Double.isInfinite(d)) {
+                    throw new NumberFormatException("Not a valid JSON number: " + d);
+                }
+                writer.write(Double.toString(d));
+            } else if (value instanceof JsonValue) {
+                writer.write(value.toString());
+            } else {
+                writeString(String.valueOf(value));
+            }
+        }
+
+        private void writeLong(final long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                writer.write("-9223372036854775808");
+                return;
+            }
+            long v = Math.abs(value);
+            int pos = buffer.length;
+            do {
+                buffer[--pos] = (char) ('0' + v % 10);
+                v /= 10;
+            } while (v != 0);
+            if (value < 0) {
+                buffer[--pos] = '-';
+            }
+            writer.write(buffer, pos, buffer.length - pos);
+        }
+
+        private void writeString(final String value) throws IOException {
+            writeString(writer, value);
+        }
+
+        private void writeString(final Writer writer, final String value) throws IOException {
+            writer.write('"');
+            // The characters between the escaped ones are appended as ranges, without creating substrings
+            int start = 0;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                writer.append(value, start, i);
+                start = i + 1;
+                writer.write(buffer, 0, escape(c));
+            }
+            writer.append(value, start, length);
+            writer.write('"');
+        }
+
+        /**
+         * Writes the escape sequence of the character into the buffer.
+         *
+         * @return the length of the escape sequence
+         */
+        private int escape(final char c) {
+            buffer[0] = '\\';
+            switch (c) {
+                case '"':
+                case '\\':
+                    buffer[1] = c;
+                    return 2;
+                case '\b':
+                    buffer[1] = 'b';
+                    return 2;
+                case '\f':
+                    buffer[1] = 'f';
+                    return 2;
+                case '\n':
+                    buffer[1] = 'n';
+                    return 2;
+                case '\r':
+                    buffer[1] = 'r';
+                    return 2;
+                case '\t':
+                    buffer[1] = 't';
+                    return 2;
+                default:
+                    buffer[1] = 'u';
+                    buffer[2] = HEX[c >> 12 & 0xF];
+                    buffer[3] = HEX[c >> 8 & 0xF];
+                    buffer[4] = HEX[c >> 4 & 0xF];
+                    buffer[5] = HEX[c & 0xF];
+                    return 6;
+            }
+        }
+
+        /**
+         * @return the quoted and escaped string
+         */
+        private String escape(final String value) throws IOException {
+            StringBuilderWriter out = new StringBuilderWriter();
+            writeString(out, value);
+            return out.builder.toString();
+        }
+    }
+
+    /**
+     * A writer appending to a {@link StringBuilder}, unlike {@link java.io.StringWriter} it is not synchronized.
+     */
+    private static final class StringBuilderWriter extends Writer {
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public void write(final int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(final char[] chars, final int off, final int len) {
+            builder.append(chars, off, len);
+        }
+
+        @Override
+        public Writer append(final CharSequence csq, final int start, final int end) {
+            builder.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -38,6 +38,9 @@ public class HttpBinderConfiguration {
     List<Pattern> clientIgnorePatterns = Collections.emptyList();
     Map<Pattern, String> clientMatchPatterns = Collections.emptyMap();
 
+    UriPatternMatcher serverUriPatterns = UriPatternMatcher.NONE;
+    UriPatternMatcher clientUriPatterns = UriPatternMatcher.NONE;
+
     private HttpBinderConfiguration() {
     }
 
@@ -78,6 +81,8 @@ public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetr
             clientIgnorePatterns = getIgnorePatterns(clientConfig.ignorePatterns, null);
             clientMatchPatterns = getMatchPatterns(clientConfig.matchPatterns, null);
         }
+        serverUriPatterns = new UriPatternMatcher(serverMatchPatterns, serverIgnorePatterns);
+        clientUriPatterns = new UriPatternMatcher(clientMatchPatterns, clientIgnorePatterns);
     }
 
     public boolean isServerEnabled() {
@@ -92,6 +97,14 @@ public Map<Pattern, String> getServerMatchPatterns() {
         return serverMatchPatterns;
     }
 
+    /**
+     * @return the server match and ignore patterns, combined; a new instance is returned once the configuration
+     *         has been updated (dev mode)
+     */
+    public UriPatternMatcher getServerUriPatterns() {
+        return serverUriPatterns;
+    }
+
     public boolean isClientEnabled() {
         return clientEnabled;
     }
@@ -104,6 +117,10 @@ public Map<Pattern, String> getClientMatchPatterns() {
         return clientMatchPatterns;
     }
 
+    public UriPatternMatcher getClientUriPatterns() {
+        return clientUriPatterns;
+    }
+
     List<Pattern> getIgnorePatterns(Optional<List<String>> configInput, Pattern defaultIgnore) {
         if (configInput.isPresent()) {
             List<String> input = configInput.get();
@@ -194,6 +211,8 @@ public HttpBinderConfiguration update(HttpBinderConfiguration httpConfig) {
         this.serverMatchPatterns = httpConfig.serverMatchPatterns;
         this.clientIgnorePatterns = httpConfig.clientIgnorePatterns;
         this.serverIgnorePatterns = httpConfig.serverIgnorePatterns;
+        this.clientUriPatterns = httpConfig.clientUriPatterns;
+        this.serverUriPatterns = httpConfig.serverUriPatterns;
         return this;
     }
 }
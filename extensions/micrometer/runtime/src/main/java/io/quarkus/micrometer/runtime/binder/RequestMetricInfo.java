@@ -51,6 +51,27 @@ protected String getNormalizedUriPath(Map<Pattern, String> matchPatterns, List<P
         return filterIgnored(path, ignorePatterns);
     }
 
+    /**
+     * Normalize and filter request path against the match and ignore patterns
+     *
+     * @param patterns the match and ignore patterns
+     * @param uri Uri for request
+     * @return final uri for tag, or null to skip measurement
+     */
+    protected String getNormalizedUriPath(UriPatternMatcher patterns, String uri) {
+        // Normalize path
+        String path = normalizePath(uri);
+        if (path.length() > 1) {
+            String origPath = path;
+            // Look for configured matches, then inferred templates
+            path = patterns.applyMatchPatterns(origPath);
+            if (path.equals(origPath)) {
+                path = normalizePath(applyTemplateMatching(origPath));
+            }
+        }
+        return patterns.filterIgnored(path);
+    }
+
     /** Subclasses should override with appropriate mechanisms for finding templated urls */
     protected String applyTemplateMatching(String path) {
         return path;
@@ -86,11 +107,38 @@ protected static String normalizePath(String uri) {
             return ROOT;
         }
         // Label value consistency: result should begin with a '/' and should not end with one
-        String workingPath = MULTIPLE_SLASH_PATTERN.matcher('/' + uri).replaceAll("/");
-        workingPath = TRAILING_SLASH_PATTERN.matcher(workingPath).replaceAll("");
-        if (workingPath.isEmpty()) {
+        if (isNormalized(uri)) {
+            // Most paths are already normalized, avoid copying them
+            return uri;
+        }
+        StringBuilder workingPath = new StringBuilder(uri.length() + 1);
+        for (int i = 0; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c != '/' || workingPath.length() == 0 || workingPath.charAt(workingPath.length() - 1) != '/') {
+                if (i == 0 && c != '/') {
+                    workingPath.append('/');
+                }
+                workingPath.append(c);
+            }
+        }
+        if (workingPath.charAt(workingPath.length() - 1) == '/') {
+            workingPath.setLength(workingPath.length() - 1);
+        }
+        if (workingPath.length() == 0) {
             return ROOT;
         }
-        return workingPath;
+        return workingPath.toString();
+    }
+
+    private static boolean isNormalized(String uri) {
+        if (uri.charAt(0) != '/' || uri.charAt(uri.length() - 1) == '/') {
+            return false;
+        }
+        for (int i = 1; i < uri.length(); i++) {
+            if (uri.charAt(i) == '/' && uri.charAt(i - 1) == '/') {
+                return false;
+            }
+        }
+        return true;
     }
 }
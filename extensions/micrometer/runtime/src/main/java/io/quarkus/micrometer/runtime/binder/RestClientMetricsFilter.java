@@ -61,8 +61,7 @@ public void filter(final ClientRequestContext requestContext, final ClientRespon
             String templatePath = (String) requestContext.getProperty("UrlPathTemplate");
 
             String requestPath = requestMetric.getNormalizedUriPath(
-                    httpMetricsConfig.getClientMatchPatterns(),
-                    httpMetricsConfig.getClientIgnorePatterns(),
+                    httpMetricsConfig.getClientUriPatterns(),
                     templatePath == null ? requestContext.getUri().getPath() : templatePath);
 
             if (requestPath != null) {
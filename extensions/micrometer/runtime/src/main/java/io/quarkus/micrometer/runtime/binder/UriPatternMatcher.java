@@ -0,0 +1,134 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Applies the configured match and ignore patterns to request paths.
+ * <p>
+ * The match patterns (resp. the ignore patterns) are combined into a single alternation, so that a path is matched
+ * once instead of once per configured pattern. As alternatives are tried in order, the first configured pattern
+ * matching the path wins, like when the patterns are tried one by one. Patterns using back references are not
+ * combined (their group numbers would change), they are tried one by one.
+ */
+public final class UriPatternMatcher {
+    private static final Logger log = Logger.getLogger(UriPatternMatcher.class);
+
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+    public static final UriPatternMatcher NONE = new UriPatternMatcher(Collections.emptyMap(), Collections.emptyList());
+
+    private final Map<Pattern, String> matchPatterns;
+    private final List<Pattern> ignorePatterns;
+
+    /** Combined match patterns, or null if the patterns are tried one by one */
+    private final Pattern match;
+    /** For each match pattern, the index of the group capturing it in the combined pattern */
+    private final int[] matchGroups;
+    private final Pattern[] matchSources;
+    private final String[] matchReplacements;
+
+    /** Combined ignore patterns, or null if the patterns are tried one by one */
+    private final Pattern ignore;
+
+    public UriPatternMatcher(Map<Pattern, String> matchPatterns, List<Pattern> ignorePatterns) {
+        this.matchPatterns = matchPatterns;
+        this.ignorePatterns = ignorePatterns;
+
+        List<Pattern> sources = new ArrayList<>(matchPatterns.keySet());
+        this.match = combine(sources);
+        this.matchSources = sources.toArray(new Pattern[0]);
+        this.matchReplacements = new String[matchSources.length];
+        this.matchGroups = new int[matchSources.length];
+        int group = 1;
+        for (int i = 0; i < matchSources.length; i++) {
+            matchReplacements[i] = matchPatterns.get(matchSources[i]);
+            matchGroups[i] = group;
+            group += matchSources[i].matcher("").groupCount() + 1;
+        }
+        this.ignore = combine(ignorePatterns);
+    }
+
+    public Map<Pattern, String> getMatchPatterns() {
+        return matchPatterns;
+    }
+
+    public List<Pattern> getIgnorePatterns() {
+        return ignorePatterns;
+    }
+
+    /**
+     * @param path the normalized path
+     * @return the replacement of the first match pattern matching the path, or the path itself
+     */
+    public String applyMatchPatterns(String path) {
+        if (matchSources.length == 0) {
+            return path;
+        }
+        if (match == null) {
+            return RequestMetricInfo.applyMatchPatterns(path, matchPatterns);
+        }
+        Matcher matcher = match.matcher(path);
+        if (matcher.matches()) {
+            for (int i = 0; i < matchGroups.length; i++) {
+                if (matcher.start(matchGroups[i]) >= 0) {
+                    log.debugf("Path %s matched pattern %s, using %s", path, matchSources[i], matchReplacements[i]);
+                    return matchReplacements[i];
+                }
+            }
+        }
+        return path;
+    }
+
+    /**
+     * @param path the normalized path
+     * @return the path, or null if it matches one of the ignore patterns
+     */
+    public String filterIgnored(String path) {
+        if (ignorePatterns.isEmpty()) {
+            return path;
+        }
+        if (ignore == null) {
+            return RequestMetricInfo.filterIgnored(path, ignorePatterns);
+        }
+        if (ignore.matcher(path).matches()) {
+            log.debugf("Path %s ignored; matches pattern %s", path, ignore.pattern());
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * @return the alternation of the given patterns, each one in its own capturing group, or null if the patterns
+     *         cannot be combined
+     */
+    private static Pattern combine(List<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Pattern pattern : patterns) {
+            if (pattern.flags() != 0 || BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+                return null;
+            }
+            if (builder.length() > 0) {
+                builder.append('|');
+            }
+            builder.append('(').append(pattern.pattern()).append(')');
+        }
+        try {
+            return Pattern.compile(builder.toString());
+        } catch (PatternSyntaxException e) {
+            // e.g. the same named group used in several patterns
+            log.debugf("Unable to combine the patterns %s: %s", patterns, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -29,6 +29,18 @@ public void report(String name, long durationInNs, boolean succeeded) {
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportCacheAccess(String name, boolean hit) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportCacheAccess(name, hit);
+    }
+
+    @Override
+    public void reportCacheInvalidation(String name, int count) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportCacheInvalidation(name, count);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -36,10 +48,15 @@ private class RedisMetrics implements ObservableRedisMetrics {
 
         private final Counter failureCounter;
         private final Timer timer;
+        private final MeterRegistry registry;
+        private volatile Counter cacheHitCounter;
+        private volatile Counter cacheMissCounter;
+        private volatile Counter cacheInvalidationCounter;
         private String name;
 
         private RedisMetrics(MeterRegistry registry, String name) {
             this.name = name;
+            this.registry = registry;
             this.tags = Tags.of(Tag.of("client-name", name));
             this.operationCounter = Counter.builder("redis.commands.count")
                     .description("The number of operations (commands or batches) executed")
@@ -69,5 +86,45 @@ public void report(String name, long durationInNs, boolean succeeded) {
             }
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
+
+        @Override
+        public void reportCacheAccess(String name, boolean hit) {
+            // The cache meters are only registered for the clients using the client-side cache, the
+            // invalidation counter is assigned last
+            if (cacheInvalidationCounter == null) {
+                registerCacheMeters();
+            }
+            if (hit) {
+                cacheHitCounter.increment();
+            } else {
+                cacheMissCounter.increment();
+            }
+        }
+
+        @Override
+        public void reportCacheInvalidation(String name, int count) {
+            if (cacheInvalidationCounter == null) {
+                registerCacheMeters();
+            }
+            cacheInvalidationCounter.increment(count);
+        }
+
+        private synchronized void registerCacheMeters() {
+            if (cacheInvalidationCounter != null) {
+                return;
+            }
+            this.cacheHitCounter = Counter.builder("redis.cache.hits")
+                    .description("The number of read commands served from the client-side cache")
+                    .tags(tags)
+                    .register(registry);
+            this.cacheMissCounter = Counter.builder("redis.cache.misses")
+                    .description("The number of cacheable read commands sent to the server")
+                    .tags(tags)
+                    .register(registry);
+            this.cacheInvalidationCounter = Counter.builder("redis.cache.invalidations")
+                    .description("The number of responses discarded from the client-side cache")
+                    .tags(tags)
+                    .register(registry);
+        }
     }
 }
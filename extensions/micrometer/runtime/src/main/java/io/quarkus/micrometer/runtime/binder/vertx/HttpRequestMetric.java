@@ -7,6 +7,7 @@
 import java.util.regex.Pattern;
 
 import io.quarkus.micrometer.runtime.binder.RequestMetricInfo;
+import io.quarkus.micrometer.runtime.binder.UriPatternMatcher;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
 import io.vertx.core.spi.observability.HttpRequest;
@@ -44,6 +45,13 @@ public String getNormalizedUriPath(Map<Pattern, String> matchPatterns, List<Patt
         return super.getNormalizedUriPath(matchPatterns, ignorePatterns, initialPath);
     }
 
+    public String getNormalizedUriPath(UriPatternMatcher patterns) {
+        if (isCORSPreflightRequest()) {
+            return patterns.filterIgnored("/cors-preflight");
+        }
+        return super.getNormalizedUriPath(patterns, initialPath);
+    }
+
     public String applyTemplateMatching(String path) {
         // JAX-RS: UrlPathTemplate set in the
         String urlTemplatePath = getUrlTemplatePath();
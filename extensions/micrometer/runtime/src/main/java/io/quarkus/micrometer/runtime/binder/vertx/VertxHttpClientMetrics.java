@@ -1,12 +1,10 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
@@ -17,6 +15,7 @@
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
 import io.quarkus.micrometer.runtime.binder.RequestMetricInfo;
+import io.quarkus.micrometer.runtime.binder.UriPatternMatcher;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
@@ -82,9 +81,7 @@ public void dequeueRequest(EventTiming event) {
             @Override
             public RequestTracker requestBegin(String uri, HttpRequest request) {
                 RequestTracker handler = new RequestTracker(tags, remote, request.uri(), request.method().name());
-                String path = handler.getNormalizedUriPath(
-                        config.getServerMatchPatterns(),
-                        config.getServerIgnorePatterns());
+                String path = handler.getNormalizedUriPath(config.getServerUriPatterns());
                 if (path != null) {
                     pending.increment();
                     handler.timer = new EventTiming(null);
@@ -196,8 +193,8 @@ boolean responseEnded() {
             return !reset && requestEnded;
         }
 
-        public String getNormalizedUriPath(Map<Pattern, String> serverMatchPatterns, List<Pattern> serverIgnorePatterns) {
-            return super.getNormalizedUriPath(serverMatchPatterns, serverIgnorePatterns, path);
+        public String getNormalizedUriPath(UriPatternMatcher serverUriPatterns) {
+            return super.getNormalizedUriPath(serverUriPatterns, path);
         }
     }
 }
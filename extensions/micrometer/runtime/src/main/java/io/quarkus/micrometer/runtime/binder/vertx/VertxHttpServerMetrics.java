@@ -1,5 +1,7 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
@@ -12,6 +14,7 @@
 import io.micrometer.core.instrument.binder.http.Outcome;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.quarkus.micrometer.runtime.binder.UriPatternMatcher;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
@@ -30,6 +33,9 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         implements HttpServerMetrics<HttpRequestMetric, LongTaskTimer.Sample, LongTaskTimer.Sample> {
     static final Logger log = Logger.getLogger(VertxHttpServerMetrics.class);
 
+    static final int STATUS_RESET = -1;
+    static final int MAX_CACHED_TIMERS = 2048;
+
     HttpBinderConfiguration config;
 
     final String nameWebsocketConnections;
@@ -37,6 +43,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final String nameHttpServerRequests;
     final LongAdder activeRequests;
 
+    volatile TimerCache timers;
+
     VertxHttpServerMetrics(MeterRegistry registry, HttpBinderConfiguration config) {
         super(registry, "http.server", null);
         this.config = config;
@@ -46,6 +54,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         nameHttpServerPush = config.getHttpServerPushName();
         nameHttpServerRequests = config.getHttpServerRequestsName();
 
+        timers = new TimerCache(config.getServerUriPatterns());
         activeRequests = new LongAdder();
         Gauge.builder(config.getHttpServerActiveRequestsName(), activeRequests, LongAdder::doubleValue)
                 .register(registry);
@@ -64,9 +73,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     public HttpRequestMetric responsePushed(LongTaskTimer.Sample socketMetric, HttpMethod method, String uri,
             HttpResponse response) {
         HttpRequestMetric requestMetric = new HttpRequestMetric(uri, activeRequests);
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config.getServerUriPatterns());
         if (path != null) {
             registry.counter(nameHttpServerPush, Tags.of(
                     HttpCommonTags.uri(path, response.statusCode()),
@@ -115,19 +122,10 @@ public HttpRequestMetric requestBegin(LongTaskTimer.Sample sample, HttpRequest r
     public void requestReset(HttpRequestMetric requestMetric) {
         log.debugf("requestReset %s", requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config.getServerUriPatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(Tags.of(
-                            VertxMetricsTags.method(requestMetric.request().method()),
-                            HttpCommonTags.uri(path, 0),
-                            Outcome.CLIENT_ERROR.asTag(),
-                            HttpCommonTags.STATUS_RESET));
-
-            sample.stop(builder.register(registry));
+            sample.stop(requestTimer(requestMetric.request().method(), path, STATUS_RESET, null));
         }
         requestMetric.requestEnded();
     }
@@ -143,23 +141,59 @@ public void requestReset(HttpRequestMetric requestMetric) {
     public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response, long bytesWritten) {
         log.debugf("responseEnd %s, %s", response, requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config.getServerUriPatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(Tags.of(
-                            VertxMetricsTags.method(requestMetric.request().method()),
-                            HttpCommonTags.uri(path, response.statusCode()),
-                            VertxMetricsTags.outcome(response),
-                            HttpCommonTags.status(response.statusCode())));
-
-            sample.stop(builder.register(registry));
+            sample.stop(requestTimer(requestMetric.request().method(), path, response.statusCode(), response));
         }
         requestMetric.requestEnded();
     }
 
+    /**
+     * Returns the request timer for the given tag values, registering it on first use.
+     * Building the tags and looking the timer up in the registry for every request is costly.
+     *
+     * @param method the request method
+     * @param path the normalized path
+     * @param status the response status, or {@link #STATUS_RESET} if the request has been reset
+     * @param response the response, null if the request has been reset
+     * @return the timer
+     */
+    Timer requestTimer(HttpMethod method, String path, int status, HttpResponse response) {
+        TimerCache cache = this.timers;
+        if (cache.patterns != config.getServerUriPatterns()) {
+            // The configuration has been updated, and the meters removed (dev mode): start over
+            cache = new TimerCache(config.getServerUriPatterns());
+            this.timers = cache;
+        }
+        TimerKey key = new TimerKey(method, path, status);
+        Timer timer = cache.timers.get(key);
+        if (timer == null) {
+            Tags tags;
+            if (status == STATUS_RESET) {
+                tags = Tags.of(
+                        VertxMetricsTags.method(method),
+                        HttpCommonTags.uri(path, 0),
+                        Outcome.CLIENT_ERROR.asTag(),
+                        HttpCommonTags.STATUS_RESET);
+            } else {
+                tags = Tags.of(
+                        VertxMetricsTags.method(method),
+                        HttpCommonTags.uri(path, status),
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(status));
+            }
+            if (cache.timers.size() >= MAX_CACHED_TIMERS) {
+                // Unbounded uri cardinality, likely limited by a meter filter: do not retain the keys
+                return Timer.builder(nameHttpServerRequests).tags(tags).register(registry);
+            }
+            timer = cache.timers.computeIfAbsent(key, k -> Timer.builder(nameHttpServerRequests)
+                    .tags(tags)
+                    .register(registry));
+        }
+        return timer;
+    }
+
     /**
      * Called when a server web socket connects.
      *
@@ -171,9 +205,7 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
     @Override
     public LongTaskTimer.Sample connected(LongTaskTimer.Sample sample, HttpRequestMetric requestMetric,
             ServerWebSocket serverWebSocket) {
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config.getServerUriPatterns());
         if (path != null) {
             return LongTaskTimer.builder(nameWebsocketConnections)
                     .tags(Tags.of(HttpCommonTags.uri(path, 0)))
@@ -195,4 +227,44 @@ public void disconnected(LongTaskTimer.Sample websocketMetric) {
             websocketMetric.stop();
         }
     }
+
+    static final class TimerCache {
+        final UriPatternMatcher patterns;
+        final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+        TimerCache(UriPatternMatcher patterns) {
+            this.patterns = patterns;
+        }
+    }
+
+    static final class TimerKey {
+        final HttpMethod method;
+        final String path;
+        final int status;
+        final int hash;
+
+        TimerKey(HttpMethod method, String path, int status) {
+            this.method = method;
+            this.path = path;
+            this.status = status;
+            this.hash = 31 * (31 * Objects.hashCode(method) + path.hashCode()) + status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimerKey)) {
+                return false;
+            }
+            TimerKey other = (TimerKey) o;
+            return status == other.status && path.equals(other.path) && Objects.equals(method, other.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
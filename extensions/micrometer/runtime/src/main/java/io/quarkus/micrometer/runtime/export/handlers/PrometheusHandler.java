@@ -1,5 +1,10 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
@@ -7,6 +12,9 @@
 import org.jboss.logging.Logger;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
@@ -59,8 +67,27 @@ private String chooseContentType(String acceptHeader) {
     }
 
     private void doHandle(HttpServerResponse response, String acceptHeader) {
-        response.putHeader("Content-Type", acceptHeader)
-                .end(Buffer.buffer(registry.scrape(acceptHeader)));
+        response.putHeader("Content-Type", acceptHeader);
+        ResponseWriter writer = new ResponseWriter(response);
+        try {
+            registry.scrape(writer, acceptHeader);
+        } catch (IOException e) {
+            abort(response, new UncheckedIOException(e));
+            return;
+        } catch (RuntimeException e) {
+            abort(response, e);
+            return;
+        }
+        writer.close();
+    }
+
+    private void abort(HttpServerResponse response, RuntimeException failure) {
+        if (!response.headWritten()) {
+            throw failure;
+        }
+        // Part of the output has already been sent, the client must not consider it complete
+        log.error("Unable to write the Prometheus scrape output", failure);
+        response.reset();
     }
 
     private void setup() {
@@ -79,4 +106,78 @@ private void setup() {
 
         setup = true;
     }
+
+    /**
+     * Encodes the scrape output directly into response chunks, instead of building the whole output as a String and
+     * then copying it into a buffer.
+     * The output is sent in a single buffer (with a content length) if it fits in one chunk.
+     */
+    static final class ResponseWriter extends Writer {
+        static final int CHUNK_SIZE = 16 * 1024;
+
+        private final HttpServerResponse response;
+        private ByteBuf chunk = Unpooled.buffer(CHUNK_SIZE);
+        /** A high surrogate ending the previous write, encoded with the next character */
+        private char pendingHighSurrogate;
+
+        ResponseWriter(HttpServerResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int c) {
+            encode(String.valueOf((char) c), 0, 1);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            encode(CharBuffer.wrap(cbuf), off, off + len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            encode(str, off, off + len);
+        }
+
+        private void encode(CharSequence csq, int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            if (pendingHighSurrogate != 0) {
+                ByteBufUtil.writeUtf8(chunk, new String(new char[] { pendingHighSurrogate, csq.charAt(start) }));
+                pendingHighSurrogate = 0;
+                start++;
+            }
+            if (start < end && Character.isHighSurrogate(csq.charAt(end - 1))) {
+                pendingHighSurrogate = csq.charAt(end - 1);
+                end--;
+            }
+            if (start < end) {
+                ByteBufUtil.writeUtf8(chunk, csq, start, end);
+            }
+            if (chunk.readableBytes() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (chunk.readableBytes() > 0) {
+                if (!response.isChunked()) {
+                    response.setChunked(true);
+                }
+                response.write(Buffer.buffer(chunk));
+                chunk = Unpooled.buffer(CHUNK_SIZE);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (pendingHighSurrogate != 0) {
+                ByteBufUtil.writeUtf8(chunk, String.valueOf(pendingHighSurrogate));
+                pendingHighSurrogate = 0;
+            }
+            response.end(Buffer.buffer(chunk));
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UriPatternMatcherTest {
+
+    @Test
+    public void testFirstMatchingPatternWins() {
+        Map<Pattern, String> matchPatterns = new LinkedHashMap<>();
+        matchPatterns.put(Pattern.compile("/item/(\\d+)/(\\w+)"), "/item/{id}/{name}");
+        matchPatterns.put(Pattern.compile("/item/\\d+.*"), "/item/{id}/any");
+        matchPatterns.put(Pattern.compile("/msg/\\d+"), "/msg/{id}");
+        UriPatternMatcher patterns = new UriPatternMatcher(matchPatterns, Collections.emptyList());
+
+        Assertions.assertEquals("/item/{id}/{name}", patterns.applyMatchPatterns("/item/123/abc"));
+        Assertions.assertEquals("/item/{id}/any", patterns.applyMatchPatterns("/item/123/a/b"));
+        Assertions.assertEquals("/msg/{id}", patterns.applyMatchPatterns("/msg/42"));
+        Assertions.assertEquals("/other", patterns.applyMatchPatterns("/other"));
+    }
+
+    @Test
+    public void testBackReferencesAreNotCombined() {
+        Map<Pattern, String> matchPatterns = new LinkedHashMap<>();
+        matchPatterns.put(Pattern.compile("/(a+)/\\1"), "/twice");
+        matchPatterns.put(Pattern.compile("/a+/a+"), "/any");
+        UriPatternMatcher patterns = new UriPatternMatcher(matchPatterns, Collections.emptyList());
+
+        Assertions.assertEquals("/twice", patterns.applyMatchPatterns("/aa/aa"));
+        Assertions.assertEquals("/any", patterns.applyMatchPatterns("/aa/a"));
+    }
+
+    @Test
+    public void testIgnorePatterns() {
+        List<Pattern> ignorePatterns = Arrays.asList(Pattern.compile("/ignore.*"), Pattern.compile("/q/.*"));
+        UriPatternMatcher patterns = new UriPatternMatcher(Collections.emptyMap(), ignorePatterns);
+
+        Assertions.assertNull(patterns.filterIgnored("/ignore/me"));
+        Assertions.assertNull(patterns.filterIgnored("/q/health"));
+        Assertions.assertEquals("/keep", patterns.filterIgnored("/keep"));
+    }
+
+    @Test
+    public void testNormalizedUriPath() {
+        Map<Pattern, String> matchPatterns = new LinkedHashMap<>();
+        matchPatterns.put(Pattern.compile("/item/\\d+"), "/item/{id}");
+        UriPatternMatcher patterns = new UriPatternMatcher(matchPatterns,
+                Collections.singletonList(Pattern.compile("/ignore.*")));
+        RequestMetricInfo requestMetric = new RequestMetricInfo();
+
+        Assertions.assertEquals("/item/{id}", requestMetric.getNormalizedUriPath(patterns, "item//123/"));
+        Assertions.assertEquals("/", requestMetric.getNormalizedUriPath(patterns, "///"));
+        Assertions.assertEquals("/a/b", requestMetric.getNormalizedUriPath(patterns, "/a/b"));
+        Assertions.assertNull(requestMetric.getNormalizedUriPath(patterns, "ignore/me/"));
+    }
+}
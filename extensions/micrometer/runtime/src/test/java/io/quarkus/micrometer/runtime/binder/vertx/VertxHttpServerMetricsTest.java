@@ -9,7 +9,15 @@
 import org.junit.jupiter.api.condition.JRE;
 import org.mockito.Mockito;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
+import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
+import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
+import io.vertx.core.spi.observability.HttpResponse;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -62,4 +70,26 @@ public void testReturnTemplatedPathFromRoutingContext() {
         Assertions.assertEquals("/item/{id}", HttpRequestMetric.vertxWebToUriTemplate.get("/item/:id"));
     }
 
+    @Test
+    public void testRequestTimersAreCached() {
+        HttpBinderConfiguration config = new HttpBinderConfiguration(true, false,
+                new HttpServerConfig(), new HttpClientConfig(), new VertxConfig());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VertxHttpServerMetrics metrics = new VertxHttpServerMetrics(registry, config);
+        HttpResponse ok = Mockito.mock(HttpResponse.class);
+        Mockito.when(ok.statusCode()).thenReturn(200);
+
+        Timer timer = metrics.requestTimer(HttpMethod.GET, "/item/{id}", 200, ok);
+        Assertions.assertSame(timer, metrics.requestTimer(HttpMethod.GET, "/item/{id}", 200, ok));
+        Assertions.assertNotSame(timer, metrics.requestTimer(HttpMethod.POST, "/item/{id}", 200, ok));
+        Assertions.assertNotSame(timer,
+                metrics.requestTimer(HttpMethod.GET, "/item/{id}", VertxHttpServerMetrics.STATUS_RESET, null));
+
+        Assertions.assertEquals("GET", timer.getId().getTag("method"));
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("200", timer.getId().getTag("status"));
+        Assertions.assertEquals("RESET", metrics.requestTimer(HttpMethod.GET, "/item/{id}",
+                VertxHttpServerMetrics.STATUS_RESET, null).getId().getTag("status"));
+    }
 }
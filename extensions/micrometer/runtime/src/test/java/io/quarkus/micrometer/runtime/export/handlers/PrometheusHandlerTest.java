@@ -0,0 +1,73 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+public class PrometheusHandlerTest {
+
+    HttpServerResponse response;
+    List<Buffer> written;
+    boolean chunked;
+
+    @BeforeEach
+    public void init() {
+        response = Mockito.mock(HttpServerResponse.class);
+        written = new ArrayList<>();
+        Mockito.when(response.setChunked(true)).thenAnswer(invocation -> {
+            chunked = true;
+            return response;
+        });
+        Mockito.when(response.isChunked()).thenAnswer(invocation -> chunked);
+    }
+
+    @Test
+    public void testSmallOutputIsSentInOneBuffer() throws IOException {
+        PrometheusHandler.ResponseWriter writer = new PrometheusHandler.ResponseWriter(response);
+        writer.write("# TYPE a counter\n");
+        writer.write("a_total 1.0\n".toCharArray(), 0, 12);
+        writer.close();
+
+        ArgumentCaptor<Buffer> captor = ArgumentCaptor.forClass(Buffer.class);
+        Mockito.verify(response).end(captor.capture());
+        Mockito.verify(response, Mockito.never()).write(Mockito.any(Buffer.class));
+        Assertions.assertFalse(chunked);
+        Assertions.assertEquals("# TYPE a counter\na_total 1.0\n", captor.getValue().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLargeOutputIsStreamed() {
+        StringBuilder expected = new StringBuilder();
+        PrometheusHandler.ResponseWriter writer = new PrometheusHandler.ResponseWriter(response);
+        for (int i = 0; i < 5000; i++) {
+            String line = "http_server_requests_seconds_count{uri=\"/item/" + i + "\",label=\"😀é\"} 1.0\n";
+            expected.append(line);
+            // split the surrogate pair across two writes
+            int split = line.indexOf('\uDE00');
+            writer.write(line, 0, split);
+            writer.write(line, split, line.length() - split);
+        }
+        writer.close();
+
+        ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+        Mockito.verify(response, Mockito.atLeast(2)).write(chunks.capture());
+        ArgumentCaptor<Buffer> last = ArgumentCaptor.forClass(Buffer.class);
+        Mockito.verify(response).end(last.capture());
+        Assertions.assertTrue(chunked);
+
+        Buffer all = Buffer.buffer();
+        chunks.getAllValues().forEach(all::appendBuffer);
+        all.appendBuffer(last.getValue());
+        Assertions.assertEquals(expected.toString(), all.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -154,6 +154,7 @@ void createOpenTelemetry(
                 .orElse(null);
         recorder.createOpenTelemetry(tracerProvider, openTelemetryConfig);
         recorder.eagerlyCreateContextStorage();
+        recorder.setLazyMDCData(openTelemetryConfig.lazyMdc);
 
         // just checking for live reload would bypass the OpenTelemetryDevModeTest
         if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
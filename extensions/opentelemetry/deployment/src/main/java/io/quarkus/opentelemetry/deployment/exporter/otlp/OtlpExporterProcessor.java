@@ -8,9 +8,11 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.opentelemetry.runtime.config.TracerRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OtlpExporterConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OtlpExporterProvider;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OtlpRecorder;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 
 @BuildSteps(onlyIf = OtlpExporterProcessor.OtlpExporterEnabled.class)
 public class OtlpExporterProcessor {
@@ -34,7 +36,10 @@ AdditionalBeanBuildItem createBatchSpanProcessor() {
     @Record(ExecutionTime.RUNTIME_INIT)
     void installBatchSpanProcessorForOtlp(OtlpRecorder recorder,
             LaunchModeBuildItem launchModeBuildItem,
-            OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig) {
-        recorder.installBatchSpanProcessorForOtlp(runtimeConfig, launchModeBuildItem.getLaunchMode());
+            OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig,
+            CoreVertxBuildItem vertx) {
+        recorder.installBatchSpanProcessorForOtlp(runtimeConfig, tracerRuntimeConfig, launchModeBuildItem.getLaunchMode(),
+                vertx.getVertx());
     }
 }
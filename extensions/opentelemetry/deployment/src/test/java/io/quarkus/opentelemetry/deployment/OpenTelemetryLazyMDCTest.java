@@ -0,0 +1,116 @@
+package io.quarkus.opentelemetry.deployment;
+
+import static io.opentelemetry.api.trace.SpanKind.INTERNAL;
+import static io.opentelemetry.api.trace.SpanKind.SERVER;
+import static io.quarkus.opentelemetry.deployment.common.TestSpanExporter.getSpanByKindAndParentId;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.opentelemetry.deployment.OpenTelemetryMDCTest.MdcEntry;
+import io.quarkus.opentelemetry.deployment.OpenTelemetryMDCTest.TestMdcCapturer;
+import io.quarkus.opentelemetry.deployment.OpenTelemetryMDCTest.TestResource;
+import io.quarkus.opentelemetry.deployment.common.TestSpanExporter;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class OpenTelemetryLazyMDCTest {
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MdcEntry.class)
+                    .addClass(TestMdcCapturer.class)
+                    .addClass(TestSpanExporter.class)
+                    .addClass(TestResource.class))
+            .overrideConfigKey("quarkus.opentelemetry.lazy-mdc", "true");
+
+    @Inject
+    TestSpanExporter spanExporter;
+    @Inject
+    TestMdcCapturer testMdcCapturer;
+    @Inject
+    Tracer tracer;
+
+    @AfterEach
+    void tearDown() {
+        spanExporter.reset();
+        testMdcCapturer.reset();
+    }
+
+    @Test
+    void vertx() {
+        RestAssured.when()
+                .get("/hello").then()
+                .statusCode(200)
+                .body(is("hello"));
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(2);
+        List<MdcEntry> mdcEntries = testMdcCapturer.getCapturedMdcEntries();
+
+        final SpanData server = getSpanByKindAndParentId(spans, SERVER, "0000000000000000");
+        assertEquals("/hello", server.getName());
+
+        final SpanData programmatic = getSpanByKindAndParentId(spans, INTERNAL, server.getSpanId());
+        assertEquals("something", programmatic.getName());
+
+        assertEquals(getExpectedMDCEntries(spans), mdcEntries);
+    }
+
+    @Test
+    void nonVertx() {
+        Span parentSpan = tracer.spanBuilder("parent").startSpan();
+        try (Scope ignored = parentSpan.makeCurrent()) {
+            testMdcCapturer.captureMdc();
+            Span childSpan = tracer.spanBuilder("child").startSpan();
+            try (Scope ignored1 = childSpan.makeCurrent()) {
+                testMdcCapturer.captureMdc();
+                Map<String, Object> copy = MDC.getMap();
+                assertEquals(childSpan.getSpanContext().getSpanId(), copy.get("spanId"));
+                assertEquals(parentSpan.getSpanContext().getSpanId(), copy.get("parentId"));
+            } finally {
+                childSpan.end();
+            }
+        } finally {
+            parentSpan.end();
+        }
+        assertEquals(null, MDC.get("traceId"));
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(2);
+        List<MdcEntry> mdcEntries = testMdcCapturer.getCapturedMdcEntries();
+
+        final SpanData parent = getSpanByKindAndParentId(spans, INTERNAL, "0000000000000000");
+        assertEquals("parent", parent.getName());
+
+        final SpanData child = getSpanByKindAndParentId(spans, INTERNAL, parent.getSpanId());
+        assertEquals("child", child.getName());
+
+        assertEquals(getExpectedMDCEntries(spans), mdcEntries);
+    }
+
+    private List<MdcEntry> getExpectedMDCEntries(List<SpanData> spans) {
+        return spans.stream()
+                .map(spanData -> new MdcEntry(spanData.getSpanContext().isSampled(),
+                        spanData.getParentSpanContext().isValid() ? spanData.getParentSpanId() : "null",
+                        spanData.getSpanId(),
+                        spanData.getTraceId()))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), l -> {
+                    Collections.reverse(l);
+                    return l;
+                }));
+    }
+}
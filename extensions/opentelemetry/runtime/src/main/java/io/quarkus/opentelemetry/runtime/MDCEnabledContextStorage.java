@@ -7,6 +7,8 @@
 /**
  * A Context Storage that wraps the default OpenTelemetry ContextStorage and
  * adds MDC functionality.
+ * <p>
+ * When the MDC data is lazy, the MDC is not updated and the default OpenTelemetry ContextStorage is used as is.
  */
 enum MDCEnabledContextStorage implements ContextStorage {
     INSTANCE;
@@ -15,6 +17,10 @@ enum MDCEnabledContextStorage implements ContextStorage {
 
     @Override
     public Scope attach(Context toAttach) {
+        if (OpenTelemetryUtil.lazyMDCData) {
+            return DEFAULT_CONTEXT_STORAGE.attach(toAttach);
+        }
+
         Context beforeAttach = current();
 
         OpenTelemetryUtil.setMDCData(toAttach, null);
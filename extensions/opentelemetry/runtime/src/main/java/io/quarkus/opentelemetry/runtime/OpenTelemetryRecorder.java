@@ -49,6 +49,11 @@ public void eagerlyCreateContextStorage() {
         ContextStorage.get();
     }
 
+    /* STATIC INIT */
+    public void setLazyMDCData(boolean lazy) {
+        OpenTelemetryUtil.setLazyMDCData(lazy);
+    }
+
     /* RUNTIME INIT */
     public void storeVertxOnContextStorage(Supplier<Vertx> vertx) {
         QuarkusContextStorage.vertx = vertx.get();
@@ -26,6 +26,14 @@ public final class OpenTelemetryUtil {
     public static final String SAMPLED = "sampled";
     public static final String PARENT_ID = "parentId";
 
+    private static final String[] MDC_KEYS = { TRACE_ID, SPAN_ID, SAMPLED, PARENT_ID };
+
+    /**
+     * Whether the MDC data is computed from the current OpenTelemetry Context when it is read, instead of being set
+     * each time a Context is attached.
+     */
+    static boolean lazyMDCData;
+
     private OpenTelemetryUtil() {
     }
 
@@ -116,6 +124,60 @@ public static void setMDCData(Context context, io.vertx.core.Context vertxContex
         }
     }
 
+    /**
+     * Enables or disables the lazy MDC data. When enabled, attaching or detaching an OpenTelemetry Context does not
+     * update the MDC anymore: the trace data is computed from the OpenTelemetry Context stored in the Vert.x Context
+     * (or in the thread local storage) when it is logged.
+     *
+     * @param lazy whether the MDC data is computed when read
+     */
+    public static void setLazyMDCData(boolean lazy) {
+        VertxMDC vertxMDC = VertxMDC.INSTANCE;
+        for (String key : MDC_KEYS) {
+            if (lazy) {
+                vertxMDC.putLazyValue(key, vertxContext -> getMDCData(key, vertxContext));
+            } else {
+                vertxMDC.removeLazyValue(key);
+            }
+        }
+        lazyMDCData = lazy;
+    }
+
+    /**
+     * Gets the MDC data for the given key from the span of the current OpenTelemetry Context.
+     *
+     * @param key the MDC key
+     * @param vertxContext vertx context, or {@code null} to use the thread local storage
+     * @return the value, or {@code null} if there is no current span
+     */
+    static String getMDCData(String key, io.vertx.core.Context vertxContext) {
+        Context context = vertxContext != null ? QuarkusContextStorage.getContext(vertxContext)
+                : MDCEnabledContextStorage.INSTANCE.current();
+        Span span = context != null ? Span.fromContextOrNull(context) : null;
+        if (span == null) {
+            return null;
+        }
+        SpanContext spanContext = span.getSpanContext();
+        switch (key) {
+            case TRACE_ID:
+                return spanContext.getTraceId();
+            case SPAN_ID:
+                return spanContext.getSpanId();
+            case SAMPLED:
+                return Boolean.toString(spanContext.isSampled());
+            case PARENT_ID:
+                if (span instanceof ReadableSpan) {
+                    SpanContext parentSpanContext = ((ReadableSpan) span).getParentSpanContext();
+                    if (parentSpanContext.isValid()) {
+                        return parentSpanContext.getSpanId();
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Clears MDC data related to OpenTelemetry
      *
@@ -65,7 +65,11 @@ public Scope attach(io.vertx.core.Context vertxContext, Context toAttach) {
         }
 
         vertxContext.putLocal(OTEL_CONTEXT, toAttach);
-        OpenTelemetryUtil.setMDCData(toAttach, vertxContext);
+        // When lazy, the MDC data is computed from the Vert.x Context when logged
+        boolean updateMDCData = !OpenTelemetryUtil.lazyMDCData;
+        if (updateMDCData) {
+            OpenTelemetryUtil.setMDCData(toAttach, vertxContext);
+        }
 
         return new Scope() {
 
@@ -77,10 +81,14 @@ public void close() {
 
                 if (beforeAttach == null) {
                     vertxContext.removeLocal(OTEL_CONTEXT);
-                    OpenTelemetryUtil.clearMDCData(vertxContext);
+                    if (updateMDCData) {
+                        OpenTelemetryUtil.clearMDCData(vertxContext);
+                    }
                 } else {
                     vertxContext.putLocal(OTEL_CONTEXT, beforeAttach);
-                    OpenTelemetryUtil.setMDCData(beforeAttach, vertxContext);
+                    if (updateMDCData) {
+                        OpenTelemetryUtil.setMDCData(beforeAttach, vertxContext);
+                    }
                 }
             }
         };
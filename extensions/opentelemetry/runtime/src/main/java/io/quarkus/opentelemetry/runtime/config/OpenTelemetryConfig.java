@@ -27,6 +27,17 @@ public final class OpenTelemetryConfig {
     @ConfigItem(defaultValue = "tracecontext,baggage")
     public List<String> propagators;
 
+    /**
+     * Whether the trace data added to the MDC ({@code traceId}, {@code spanId}, {@code sampled} and {@code parentId})
+     * is computed from the current OpenTelemetry Context when a message is logged.
+     * <p>
+     * By default, the MDC is updated each time an OpenTelemetry Context is attached or detached, whether a message is
+     * logged or not. When enabled, the MDC is not updated anymore: the trace data is only read when it is actually
+     * logged, e.g. by a {@code %X{traceId}} format or by the JSON formatter.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean lazyMdc;
+
     /**
      * Build / static runtime config for tracer
      */
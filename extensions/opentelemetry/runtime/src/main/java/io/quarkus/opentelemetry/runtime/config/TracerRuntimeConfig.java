@@ -1,5 +1,6 @@
 package io.quarkus.opentelemetry.runtime.config;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,9 @@ public class TracerRuntimeConfig {
     /** Config for sampler */
     public SamplerConfig sampler;
 
+    /** Config for tail sampling */
+    public TailSamplingConfig tailSampling;
+
     /**
      * Suppress non-application uris from trace collection.
      * This will suppress tracing of `/q` endpoints.
@@ -44,7 +48,7 @@ public static class SamplerConfig {
         /**
          * The sampler to use for tracing.
          * <p>
-         * Valid values are {@code off, on, ratio}.
+         * Valid values are {@code off, on, ratio, rate-limited}.
          * <p>
          * Defaults to {@code on}.
          */
@@ -58,6 +62,15 @@ public static class SamplerConfig {
          */
         public Optional<Double> ratio;
 
+        /**
+         * The maximum number of traces sampled per second for each route.
+         * <p>
+         * Only supported by the {@code rate-limited} sampler. The route of a server span is its {@code http.route}, or
+         * its {@code http.target} without the query string; other root spans are limited by span name.
+         */
+        @ConfigItem(defaultValue = "100")
+        public double rateLimit;
+
         /**
          * If the sampler to use for tracing is parent based.
          * <p>
@@ -68,4 +81,55 @@ public static class SamplerConfig {
         @ConfigItem(defaultValue = "true")
         public Boolean parentBased;
     }
+
+    @ConfigGroup
+    public static class TailSamplingConfig {
+        /**
+         * Whether the spans exported by the OTLP exporter are sampled once their trace completes.
+         * <p>
+         * The spans are buffered until the local root span of their trace ends, and only exported if one of them has
+         * an error status or if the root span is slower than {@code latency-threshold}. The head sampler still applies
+         * first: only the sampled spans are considered.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * Whether the traces containing a span with an error status are kept.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean errors;
+
+        /**
+         * The traces whose local root span lasts at least this duration are kept.
+         */
+        @ConfigItem
+        public Optional<Duration> latencyThreshold;
+
+        /**
+         * The ratio of the other traces that are kept, between {@code 0} and {@code 1}.
+         */
+        @ConfigItem(defaultValue = "0")
+        public double ratio;
+
+        /**
+         * The maximum number of traces buffered while waiting for their local root span to end. When reached, the
+         * oldest trace is decided with the spans received so far.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxTraces;
+
+        /**
+         * The maximum number of spans buffered for a single trace, the next spans of the trace are dropped.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSpansPerTrace;
+
+        /**
+         * The maximum time to wait for the local root span of a trace to end, before deciding with the spans received
+         * so far.
+         */
+        @ConfigItem(defaultValue = "30S")
+        public Duration decisionWait;
+    }
 }
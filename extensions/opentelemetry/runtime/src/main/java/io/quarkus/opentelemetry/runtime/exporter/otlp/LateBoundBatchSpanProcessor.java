@@ -13,19 +13,21 @@
  * Class to facilitate a delay in when the worker thread inside {@link BatchSpanProcessor}
  * is started, enabling Quarkus to instantiate a {@link io.opentelemetry.api.trace.TracerProvider}
  * during static initialization and set a {@link BatchSpanProcessor} delegate during runtime initialization.
+ * <p>
+ * The delegate can also be a {@link VertxBatchSpanProcessor}.
  */
 public class LateBoundBatchSpanProcessor implements SpanProcessor {
     private static final Logger log = Logger.getLogger(LateBoundBatchSpanProcessor.class);
 
     private boolean warningLogged = false;
-    private BatchSpanProcessor delegate;
+    private SpanProcessor delegate;
 
     /**
-     * Set the actual {@link BatchSpanProcessor} to use as the delegate.
+     * Set the actual {@link BatchSpanProcessor} or {@link VertxBatchSpanProcessor} to use as the delegate.
      *
-     * @param delegate Properly constructed {@link BatchSpanProcessor} for processing spans.
+     * @param delegate Properly constructed {@link SpanProcessor} for processing spans.
      */
-    public void setBatchSpanProcessorDelegate(BatchSpanProcessor delegate) {
+    public void setBatchSpanProcessorDelegate(SpanProcessor delegate) {
         this.delegate = delegate;
     }
 
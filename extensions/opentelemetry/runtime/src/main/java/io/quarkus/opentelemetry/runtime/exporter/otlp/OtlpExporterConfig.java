@@ -4,6 +4,7 @@
 import java.util.List;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -61,5 +62,62 @@ public static class OtlpExporterRuntimeConfig {
         @ConfigItem
         public Optional<String> compression;
 
+        /**
+         * Config for the Vert.x based exporter
+         */
+        public VertxExporterConfig vertx;
+    }
+
+    @ConfigGroup
+    public static class VertxExporterConfig {
+        /**
+         * Whether the spans are exported by a Vert.x based exporter, instead of the OpenTelemetry SDK
+         * {@code BatchSpanProcessor} and gRPC exporter.
+         * <p>
+         * The ended spans are put in a bounded lock-free queue, without taking any lock, and exported in batches by a
+         * Vert.x HTTP client, without blocking any thread. This is recommended for applications creating a large number of spans.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The OTLP transport protocol used by the Vert.x based exporter.
+         * <p>
+         * With {@code grpc}, the endpoint is the OTLP/gRPC endpoint of the collector (usually on port 4317). With
+         * {@code http-protobuf}, the spans are sent to the {@code /v1/traces} path of the endpoint (usually on port 4318).
+         */
+        @ConfigItem(defaultValue = "grpc")
+        public Protocol protocol;
+
+        /**
+         * The maximum number of ended spans waiting to be exported. Spans ended while the queue is full are dropped.
+         */
+        @ConfigItem(defaultValue = "2048")
+        public int maxQueueSize;
+
+        /**
+         * The maximum number of spans exported in a single request.
+         */
+        @ConfigItem(defaultValue = "512")
+        public int maxExportBatchSize;
+
+        /**
+         * The delay between two exports of the queued spans. A batch is also exported as soon as
+         * {@code max-export-batch-size} spans are queued.
+         */
+        @ConfigItem(defaultValue = "5S")
+        public Duration scheduleDelay;
+
+        /**
+         * The maximum number of export requests in flight. When reached, the spans stay in the queue until a request
+         * completes.
+         */
+        @ConfigItem(defaultValue = "2")
+        public int maxConcurrentExports;
+    }
+
+    public enum Protocol {
+        GRPC,
+        HTTP_PROTOBUF
     }
 }
@@ -2,27 +2,37 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.spi.CDI;
 
+import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporterBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryUtil;
+import io.quarkus.opentelemetry.runtime.config.TracerRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Vertx;
 
 @Recorder
 public class OtlpRecorder {
     public void installBatchSpanProcessorForOtlp(OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig,
-            LaunchMode launchMode) {
+            TracerRuntimeConfig tracerRuntimeConfig, LaunchMode launchMode, Supplier<Vertx> vertx) {
         if (launchMode == LaunchMode.DEVELOPMENT && !runtimeConfig.endpoint.isPresent()) {
             // Default the endpoint for development only
             runtimeConfig.endpoint = Optional.of("http://localhost:4317");
         }
         // Only create the OtlpGrpcSpanExporter if an endpoint was set in runtime config
         if (runtimeConfig.endpoint.isPresent() && runtimeConfig.endpoint.get().trim().length() > 0) {
+            if (runtimeConfig.vertx.enabled) {
+                installVertxBatchSpanProcessor(runtimeConfig, tracerRuntimeConfig, vertx.get());
+                return;
+            }
             try {
                 OtlpGrpcSpanExporterBuilder otlpGrpcSpanExporterBuilder = OtlpGrpcSpanExporter.builder()
                         .setEndpoint(runtimeConfig.endpoint.get())
@@ -39,10 +49,37 @@ public void installBatchSpanProcessorForOtlp(OtlpExporterConfig.OtlpExporterRunt
                 // Create BatchSpanProcessor for OTLP and install into LateBoundBatchSpanProcessor
                 LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
                         .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
-                delayedProcessor.setBatchSpanProcessorDelegate(BatchSpanProcessor.builder(otlpSpanExporter).build());
+                delayedProcessor.setBatchSpanProcessorDelegate(
+                        withTailSampling(BatchSpanProcessor.builder(otlpSpanExporter).build(), tracerRuntimeConfig,
+                                vertx));
             } catch (IllegalArgumentException iae) {
                 throw new IllegalStateException("Unable to install OTLP Exporter", iae);
             }
         }
     }
+
+    private void installVertxBatchSpanProcessor(OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig, Vertx vertx) {
+        try {
+            Map<String, String> headers = OpenTelemetryUtil.convertKeyValueListToMap(runtimeConfig.headers.orElse(null));
+            VertxOtlpSpanExporter exporter = new VertxOtlpSpanExporter(vertx, runtimeConfig.endpoint.get(),
+                    runtimeConfig.vertx.protocol, headers, runtimeConfig.exportTimeout,
+                    runtimeConfig.compression.orElse(null));
+
+            LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
+                    .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
+            delayedProcessor.setBatchSpanProcessorDelegate(withTailSampling(new VertxBatchSpanProcessor(vertx, exporter,
+                    runtimeConfig.vertx, GlobalOpenTelemetry.getMeterProvider()), tracerRuntimeConfig, () -> vertx));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalStateException("Unable to install OTLP Exporter", iae);
+        }
+    }
+
+    private static SpanProcessor withTailSampling(SpanProcessor processor, TracerRuntimeConfig tracerRuntimeConfig,
+            Supplier<Vertx> vertx) {
+        if (tracerRuntimeConfig.tailSampling.enabled) {
+            return new TailSamplingSpanProcessor(processor, tracerRuntimeConfig.tailSampling, vertx.get());
+        }
+        return processor;
+    }
 }
@@ -0,0 +1,280 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * A {@link SpanProcessor} exporting the sampled spans in batches from a Vert.x event loop.
+ * <p>
+ * The ended spans are offered to a lock-free queue, bounded by a counter of the queued spans, so ending a span never
+ * blocks nor contends on a lock. The queue is drained on the context of a verticle deployed by the processor, either
+ * periodically or as soon as a full batch is queued, and the batches are exported without waiting for the previous
+ * exports to complete, up to {@code maxConcurrentExports} exports in flight. When this limit is reached, the spans stay
+ * in the queue; when the queue is full, the spans are dropped.
+ * <p>
+ * The queue size and the processed spans are reported with the same instruments as the SDK {@code BatchSpanProcessor}.
+ * The spans whose export failed are reported as dropped.
+ */
+public class VertxBatchSpanProcessor implements SpanProcessor {
+    private static final Logger log = Logger.getLogger(VertxBatchSpanProcessor.class);
+
+    private static final AttributeKey<String> SPAN_PROCESSOR_TYPE_LABEL = AttributeKey.stringKey("spanProcessorType");
+    private static final AttributeKey<Boolean> SPAN_PROCESSOR_DROPPED_LABEL = AttributeKey.booleanKey("dropped");
+    private static final String SPAN_PROCESSOR_TYPE_VALUE = VertxBatchSpanProcessor.class.getSimpleName();
+    private static final Attributes DROPPED_ATTRIBUTES = Attributes.of(SPAN_PROCESSOR_TYPE_LABEL,
+            SPAN_PROCESSOR_TYPE_VALUE, SPAN_PROCESSOR_DROPPED_LABEL, true);
+    private static final Attributes EXPORTED_ATTRIBUTES = Attributes.of(SPAN_PROCESSOR_TYPE_LABEL,
+            SPAN_PROCESSOR_TYPE_VALUE, SPAN_PROCESSOR_DROPPED_LABEL, false);
+
+    private final Vertx vertx;
+    /** Completed with the context of the verticle once deployed */
+    private final Promise<io.vertx.core.Context> started = Promise.promise();
+    /** The context of the verticle, {@code null} until deployed */
+    private volatile io.vertx.core.Context exportContext;
+    private volatile String deploymentId;
+    private final SpanExporter exporter;
+    private final int maxExportBatchSize;
+    private final int maxConcurrentExports;
+
+    private final int maxQueueSize;
+    private final Queue<ReadableSpan> queue = new ConcurrentLinkedQueue<>();
+    /** The number of spans in the queue, also used to bound it */
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean exportRequested = new AtomicBoolean();
+    private final AtomicBoolean dropWarningLogged = new AtomicBoolean();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder failedSpans = new LongAdder();
+    private final LongCounter processedSpans;
+
+    /** The exports in flight, only accessed from the context */
+    private final List<CompletableResultCode> inFlight = new ArrayList<>();
+    /** Only accessed from the context */
+    private long timerId = -1;
+
+    /**
+     * @param vertx the Vert.x instance
+     * @param exporter the exporter, should not block
+     * @param config the processor configuration
+     * @param meterProvider the meter provider used to report the queue size and processed spans
+     */
+    public VertxBatchSpanProcessor(Vertx vertx, SpanExporter exporter, OtlpExporterConfig.VertxExporterConfig config,
+            MeterProvider meterProvider) {
+        if (config.maxQueueSize <= 0 || config.maxExportBatchSize <= 0 || config.maxConcurrentExports <= 0) {
+            throw new IllegalArgumentException(
+                    "The max queue size, max export batch size and max concurrent exports must be positive");
+        }
+        this.vertx = vertx;
+        this.exporter = exporter;
+        this.maxExportBatchSize = Math.min(config.maxExportBatchSize, config.maxQueueSize);
+        this.maxConcurrentExports = config.maxConcurrentExports;
+        this.maxQueueSize = config.maxQueueSize;
+
+        Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
+        meter.gaugeBuilder("queueSize")
+                .ofLongs()
+                .setDescription("The number of spans queued")
+                .setUnit("1")
+                .buildWithCallback(result -> result.record(queueSize.get(),
+                        Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
+        this.processedSpans = meter.counterBuilder("processedSpans")
+                .setUnit("1")
+                .setDescription("The number of spans processed by the BatchSpanProcessor. "
+                        + "[dropped=true if they were dropped due to high throughput]")
+                .build();
+
+        long delay = Math.max(1, config.scheduleDelay.toMillis());
+        // The processor is created outside of Vert.x: a verticle provides a dedicated event loop context
+        vertx.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                // Timers set from a context are executed on this context
+                timerId = vertx.setPeriodic(delay, id -> exportBatches(false));
+                exportContext = context;
+                started.complete(context);
+                // The spans ended before the deployment
+                exportBatches(true);
+            }
+        }).onSuccess(id -> deploymentId = id)
+                .onFailure(t -> {
+                    log.error("Unable to start the exports of the spans", t);
+                    started.tryFail(t);
+                });
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled() || shutdown.get()) {
+            return;
+        }
+        int size = queueSize.incrementAndGet();
+        if (size > maxQueueSize) {
+            queueSize.decrementAndGet();
+            droppedSpans.increment();
+            processedSpans.add(1, DROPPED_ATTRIBUTES);
+            if (dropWarningLogged.compareAndSet(false, true)) {
+                log.warn("The queue of spans to export is full, the spans are dropped until the exports catch up. "
+                        + "Consider increasing quarkus.opentelemetry.tracer.exporter.otlp.vertx.max-queue-size or "
+                        + "quarkus.opentelemetry.tracer.exporter.otlp.vertx.max-concurrent-exports");
+            }
+            return;
+        }
+        queue.offer(span);
+        if (size >= maxExportBatchSize && exportContext != null && exportRequested.compareAndSet(false, true)) {
+            exportContext.runOnContext(x -> {
+                exportRequested.set(false);
+                exportBatches(true);
+            });
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /**
+     * Exports the queued spans while the number of exports in flight allows it. Must be called from the context.
+     *
+     * @param fullBatchesOnly whether a batch is exported only if {@code maxExportBatchSize} spans are queued
+     */
+    private void exportBatches(boolean fullBatchesOnly) {
+        while (inFlight.size() < maxConcurrentExports) {
+            int size = queueSize.get();
+            // A counted span may not be in the queue yet
+            if (size == 0 || queue.isEmpty() || fullBatchesOnly && size < maxExportBatchSize) {
+                return;
+            }
+            exportBatch();
+        }
+    }
+
+    /**
+     * Exports a batch of queued spans. Must be called from the context.
+     */
+    private CompletableResultCode exportBatch() {
+        List<SpanData> batch = new ArrayList<>(Math.min(queueSize.get(), maxExportBatchSize));
+        ReadableSpan span;
+        while (batch.size() < maxExportBatchSize && (span = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(span.toSpanData());
+        }
+        CompletableResultCode result;
+        try {
+            result = exporter.export(batch);
+        } catch (RuntimeException e) {
+            log.warn("Unable to export the spans", e);
+            result = CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode exported = result;
+        // Completed once the export has been accounted for
+        CompletableResultCode done = new CompletableResultCode();
+        inFlight.add(done);
+        exported.whenComplete(() -> exportContext.runOnContext(x -> {
+            inFlight.remove(done);
+            if (exported.isSuccess()) {
+                exportedSpans.add(batch.size());
+                processedSpans.add(batch.size(), EXPORTED_ATTRIBUTES);
+            } else {
+                failedSpans.add(batch.size());
+                processedSpans.add(batch.size(), DROPPED_ATTRIBUTES);
+            }
+            done.succeed();
+            if (!shutdown.get()) {
+                exportBatches(true);
+            }
+        }));
+        return done;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        CompletableResultCode result = new CompletableResultCode();
+        started.future().onFailure(t -> result.fail()).onSuccess(context -> context.runOnContext(x -> {
+            // Ignores the max concurrent exports, and waits for the exports in flight
+            while (!queue.isEmpty()) {
+                exportBatch();
+            }
+            CompletableResultCode.ofAll(new ArrayList<>(inFlight)).whenComplete(result::succeed);
+        }));
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        started.future().onSuccess(context -> context.runOnContext(x -> vertx.cancelTimer(timerId)));
+        forceFlush().whenComplete(() -> exporter.shutdown().whenComplete(() -> {
+            String id = deploymentId;
+            Future<Void> undeployed = id != null ? vertx.undeploy(id) : Future.succeededFuture();
+            // The exports are complete, even if the verticle cannot be undeployed because Vert.x is closing
+            undeployed.onComplete(ar -> result.succeed());
+        }));
+        return result;
+    }
+
+    /**
+     * @return the number of spans waiting to be exported
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * @return the number of spans dropped because the queue was full, the spans whose export failed excluded
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    /**
+     * @return the number of spans successfully exported
+     */
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    /**
+     * @return the number of spans whose export failed
+     */
+    public long getFailedSpans() {
+        return failedSpans.sum();
+    }
+}
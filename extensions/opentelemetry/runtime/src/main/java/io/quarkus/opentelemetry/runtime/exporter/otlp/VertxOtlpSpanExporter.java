@@ -0,0 +1,218 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+
+/**
+ * A {@link SpanExporter} sending the spans to an OTLP endpoint with a Vert.x HTTP client, using either the OTLP/gRPC
+ * or the OTLP/HTTP (binary protobuf) protocol.
+ * <p>
+ * Unlike the OpenTelemetry SDK exporters, {@link #export(Collection)} does not block: the returned result is completed
+ * on the Vert.x event loop when the response is received.
+ */
+public class VertxOtlpSpanExporter implements SpanExporter {
+    private static final Logger log = Logger.getLogger(VertxOtlpSpanExporter.class);
+
+    static final String GRPC_PATH = "/opentelemetry.proto.collector.trace.v1.TraceService/Export";
+    static final String HTTP_PATH = "/v1/traces";
+
+    private static final String GRPC_STATUS = "grpc-status";
+    private static final String GRPC_MESSAGE = "grpc-message";
+    private static final String GRPC_OK = "0";
+    /** The length of the gRPC message prefix: the compressed flag and the message length */
+    private static final int GRPC_PREFIX_LENGTH = 5;
+
+    private final HttpClient client;
+    private final boolean grpc;
+    private final RequestOptions requestOptions;
+    private final boolean gzip;
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+
+    /**
+     * @param vertx the Vert.x instance
+     * @param endpoint the OTLP endpoint, must start with either {@code http://} or {@code https://}
+     * @param protocol the OTLP transport protocol
+     * @param headers the headers added to each request
+     * @param timeout the maximum time to wait for the response, {@code 0} to disable the timeout
+     * @param compression the compression method, only {@code gzip} is supported
+     */
+    public VertxOtlpSpanExporter(Vertx vertx, String endpoint, OtlpExporterConfig.Protocol protocol,
+            Map<String, String> headers, Duration timeout, String compression) {
+        URI uri;
+        try {
+            uri = new URI(endpoint);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid OTLP endpoint " + endpoint, e);
+        }
+        String scheme = uri.getScheme();
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            throw new IllegalArgumentException("Invalid OTLP endpoint, must start with http:// or https://: " + endpoint);
+        }
+        if (compression != null && !"gzip".equals(compression) && !"none".equals(compression)) {
+            throw new IllegalArgumentException(
+                    "Unsupported compression method, supported values are \"gzip\" and \"none\": " + compression);
+        }
+        boolean ssl = "https".equals(scheme);
+        int port = uri.getPort() == -1 ? (ssl ? 443 : 80) : uri.getPort();
+
+        this.grpc = protocol == OtlpExporterConfig.Protocol.GRPC;
+        this.gzip = "gzip".equals(compression);
+
+        HttpClientOptions options = new HttpClientOptions()
+                .setDefaultHost(uri.getHost())
+                .setDefaultPort(port)
+                .setSsl(ssl);
+        if (grpc) {
+            // gRPC requires HTTP/2, without upgrade for plain text connections
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setHttp2ClearTextUpgrade(false)
+                    .setUseAlpn(ssl);
+        }
+        this.client = vertx.createHttpClient(options);
+
+        this.requestOptions = new RequestOptions()
+                .setMethod(HttpMethod.POST)
+                .setURI(grpc ? GRPC_PATH : httpPath(uri.getPath()))
+                .setTimeout(timeout.toMillis() == 0 ? -1 : timeout.toMillis());
+        headers.forEach(requestOptions::addHeader);
+        if (grpc) {
+            requestOptions.putHeader("content-type", "application/grpc")
+                    .putHeader("te", "trailers");
+            if (gzip) {
+                requestOptions.putHeader("grpc-encoding", "gzip");
+            }
+        } else {
+            requestOptions.putHeader("content-type", "application/x-protobuf");
+            if (gzip) {
+                requestOptions.putHeader("content-encoding", "gzip");
+            }
+        }
+    }
+
+    private static String httpPath(String path) {
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return HTTP_PATH;
+        }
+        if (path.endsWith(HTTP_PATH)) {
+            return path;
+        }
+        return path.endsWith("/") ? path + HTTP_PATH.substring(1) : path + HTTP_PATH;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        Buffer body;
+        try {
+            body = serialize(TraceRequestMarshaler.create(spans));
+        } catch (IOException e) {
+            log.warn("Unable to serialize the spans", e);
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        client.request(requestOptions)
+                .compose(request -> request.send(body))
+                .compose(response -> response.body().map(response))
+                .onComplete(ar -> {
+                    if (ar.failed()) {
+                        log.debugf(ar.cause(), "Unable to export %d spans", spans.size());
+                        result.fail();
+                    } else if (isSuccess(ar.result())) {
+                        result.succeed();
+                    } else {
+                        result.fail();
+                    }
+                });
+        return result;
+    }
+
+    private boolean isSuccess(HttpClientResponse response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            log.debugf("Unable to export the spans, the OTLP endpoint returned the HTTP status %d %s", response.statusCode(),
+                    response.statusMessage());
+            return false;
+        }
+        if (!grpc) {
+            return true;
+        }
+        // The status is in the headers for "trailers-only" responses
+        String status = response.getHeader(GRPC_STATUS);
+        String message = response.getHeader(GRPC_MESSAGE);
+        if (status == null) {
+            status = response.getTrailer(GRPC_STATUS);
+            message = response.getTrailer(GRPC_MESSAGE);
+        }
+        if (!GRPC_OK.equals(status)) {
+            log.debugf("Unable to export the spans, the OTLP endpoint returned the gRPC status %s: %s", status, message);
+            return false;
+        }
+        return true;
+    }
+
+    Buffer serialize(TraceRequestMarshaler marshaler) throws IOException {
+        int size = marshaler.getBinarySerializedSize();
+        ByteBuf buffer;
+        if (gzip) {
+            buffer = Unpooled.buffer(GRPC_PREFIX_LENGTH + size / 2);
+            if (grpc) {
+                buffer.writerIndex(GRPC_PREFIX_LENGTH);
+            }
+            try (OutputStream out = new GZIPOutputStream(new ByteBufOutputStream(buffer))) {
+                marshaler.writeBinaryTo(out);
+            }
+        } else {
+            buffer = Unpooled.buffer((grpc ? GRPC_PREFIX_LENGTH : 0) + size);
+            if (grpc) {
+                buffer.writerIndex(GRPC_PREFIX_LENGTH);
+            }
+            marshaler.writeBinaryTo(new ByteBufOutputStream(buffer));
+        }
+        if (grpc) {
+            buffer.setByte(0, gzip ? 1 : 0);
+            buffer.setInt(1, buffer.writerIndex() - GRPC_PREFIX_LENGTH);
+        }
+        return Buffer.buffer(buffer);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        // The requests are sent as soon as the spans are exported
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        client.close(ar -> result.succeed());
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+/**
+ * A {@link Sampler} sampling at most a given number of traces per second for each route.
+ * <p>
+ * Each route has its own token bucket, holding up to one second worth of tokens. The route of a server span is its
+ * {@code http.route} attribute, or its {@code http.target} attribute without the query string; other spans use their
+ * name. To bound the memory used by routes containing path parameters, the routes seen once the maximum number of
+ * buckets is reached share a single bucket.
+ * <p>
+ * This sampler is meant to decide for the root spans, it is usually wrapped in a parent based sampler.
+ */
+public class RateLimitingSampler implements Sampler {
+    static final int MAX_BUCKETS = 1000;
+
+    private final double tracesPerSecond;
+    private final long intervalInNs;
+    private final long capacityInNs;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+
+    /**
+     * @param tracesPerSecond the maximum number of traces sampled per second for each route
+     */
+    public RateLimitingSampler(double tracesPerSecond) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("The rate limit must be positive: " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.intervalInNs = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond));
+        // The bucket holds one second worth of tokens, and at least one token
+        this.capacityInNs = Math.max(TimeUnit.SECONDS.toNanos(1), intervalInNs);
+        this.overflow = new TokenBucket();
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        String route = route(name, spanKind, attributes);
+        TokenBucket bucket = buckets.get(route);
+        if (bucket == null) {
+            bucket = buckets.size() < MAX_BUCKETS ? buckets.computeIfAbsent(route, r -> new TokenBucket()) : overflow;
+        }
+        return bucket.tryAcquire(System.nanoTime()) ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    static String route(String name, SpanKind spanKind, Attributes attributes) {
+        if (spanKind == SpanKind.SERVER) {
+            String route = attributes.get(SemanticAttributes.HTTP_ROUTE);
+            if (route != null) {
+                return route;
+            }
+            String target = attributes.get(SemanticAttributes.HTTP_TARGET);
+            if (target != null) {
+                int query = target.indexOf('?');
+                return query == -1 ? target : target.substring(0, query);
+            }
+        }
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + tracesPerSecond + "}";
+    }
+
+    /**
+     * A lock-free token bucket, implemented as a generic cell rate algorithm: instead of counting the tokens, the
+     * bucket keeps the time at which it will be full again.
+     */
+    private final class TokenBucket {
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = (current == Long.MIN_VALUE || current - now < 0 ? now : current) + intervalInNs;
+                if (next - now > capacityInNs) {
+                    return false;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.TracerRuntimeConfig;
+import io.vertx.core.Vertx;
+
+/**
+ * A {@link SpanProcessor} buffering the ended spans of each trace until its local root span ends, and only passing
+ * them to the delegate processor if the trace is interesting: one of its spans has an error status, or its local root
+ * span took longer than the latency threshold. A ratio of the other traces can also be kept.
+ * <p>
+ * The spans of a trace ending after the decision follow the decision, as long as the trace is among the last decided
+ * ones. The traces whose local root span does not end within the decision wait, or evicted because too many traces are
+ * buffered, are decided with the spans received so far.
+ * <p>
+ * The spans of different traces are buffered concurrently: each trace has its own buffer and lock. The pending traces
+ * are evicted periodically on a Vert.x timer, and when a span ends; the eviction is performed by one thread at a time,
+ * the other threads do not wait for it.
+ * <p>
+ * The status of the spans is only checked when a trace is decided, and only if the trace is not already kept.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final Vertx vertx;
+    private final long timerId;
+    private final boolean keepErrors;
+    private final long latencyThresholdInNs;
+    private final double ratio;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long decisionWaitInNs;
+
+    /** The traces waiting for a decision */
+    private final Map<String, TraceBuffer> pending = new ConcurrentHashMap<>();
+    /** The traces waiting for a decision, in insertion order; may contain traces already decided */
+    private final Queue<TraceBuffer> pendingOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /** The last decisions, for the spans ending after their local root */
+    private final Map<String, Boolean> decided = new ConcurrentHashMap<>();
+    private final Queue<String> decidedOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decidedCount = new AtomicInteger();
+
+    /**
+     * @param delegate the processor receiving the spans of the kept traces
+     * @param config the tail sampling configuration
+     * @param vertx the Vert.x instance, used to evict the pending traces periodically
+     */
+    public TailSamplingSpanProcessor(SpanProcessor delegate, TracerRuntimeConfig.TailSamplingConfig config, Vertx vertx) {
+        this.delegate = delegate;
+        this.vertx = vertx;
+        this.keepErrors = config.errors;
+        this.latencyThresholdInNs = config.latencyThreshold.map(d -> d.toNanos()).orElse(Long.MAX_VALUE);
+        this.ratio = config.ratio;
+        this.maxTraces = config.maxTraces;
+        this.maxSpansPerTrace = config.maxSpansPerTrace;
+        this.decisionWaitInNs = config.decisionWait.toNanos();
+        // The traces whose spans stopped ending are decided within a second of their decision wait
+        long period = Math.max(1, Math.min(config.decisionWait.toMillis(), 1000));
+        this.timerId = vertx.setPeriodic(period, id -> evict(System.nanoTime()));
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            return;
+        }
+        String traceId = spanContext.getTraceId();
+        SpanContext parent = span.getParentSpanContext();
+        boolean localRoot = !parent.isValid() || parent.isRemote();
+        boolean slow = localRoot && span.getLatencyNanos() >= latencyThresholdInNs;
+        long now = System.nanoTime();
+
+        // Looked up first, the eviction may push this decision out of the last decisions
+        Boolean decision = decided.get(traceId);
+        evict(now);
+        if (decision != null) {
+            if (decision) {
+                delegate.onEnd(span);
+            }
+            return;
+        }
+
+        TraceBuffer buffer = pending.computeIfAbsent(traceId, id -> {
+            TraceBuffer created = new TraceBuffer(id, now);
+            pendingOrder.offer(created);
+            pendingCount.incrementAndGet();
+            return created;
+        });
+        List<ReadableSpan> kept = null;
+        synchronized (buffer) {
+            if (buffer.decided) {
+                // Decided concurrently: follow the decision
+                if (buffer.kept) {
+                    kept = List.of(span);
+                }
+            } else {
+                // The buffer may have been created after the trace was decided and its buffer removed
+                decision = decided.get(traceId);
+                if (decision != null) {
+                    buffer.decided = true;
+                    buffer.kept = decision;
+                    buffer.spans = null;
+                    removePending(buffer);
+                    if (decision) {
+                        kept = List.of(span);
+                    }
+                } else {
+                    buffer.interesting |= slow;
+                    if (buffer.spans.size() < maxSpansPerTrace) {
+                        buffer.spans.add(span);
+                    } else if (!buffer.interesting && keepErrors && hasError(span)) {
+                        // Not buffered, the status cannot be checked when deciding
+                        buffer.interesting = true;
+                    }
+                    if (localRoot) {
+                        kept = decide(buffer);
+                    }
+                }
+            }
+        }
+        // The delegate is called outside of the lock
+        if (kept != null) {
+            kept.forEach(delegate::onEnd);
+        }
+    }
+
+    /**
+     * Decides for the traces waiting for too long, or exceeding the maximum number of buffered traces.
+     * Skipped if another thread is already evicting.
+     */
+    private void evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        List<ReadableSpan> kept = null;
+        try {
+            TraceBuffer buffer;
+            while ((buffer = pendingOrder.peek()) != null) {
+                synchronized (buffer) {
+                    if (!buffer.decided) {
+                        if (pendingCount.get() < maxTraces && now - buffer.createdAt < decisionWaitInNs) {
+                            break;
+                        }
+                        List<ReadableSpan> spans = decide(buffer);
+                        if (spans != null) {
+                            if (kept == null) {
+                                kept = new ArrayList<>();
+                            }
+                            kept.addAll(spans);
+                        }
+                    }
+                }
+                pendingOrder.poll();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        if (kept != null) {
+            kept.forEach(delegate::onEnd);
+        }
+    }
+
+    /**
+     * Decides for a trace, and removes it from the pending traces. Must be called while holding the lock of the buffer.
+     *
+     * @return the spans to pass to the delegate, or {@code null}
+     */
+    private List<ReadableSpan> decide(TraceBuffer buffer) {
+        buffer.decided = true;
+        buffer.kept = buffer.interesting || ratio > 0 && ThreadLocalRandom.current().nextDouble() < ratio
+                || keepErrors && hasError(buffer.spans);
+        // Recorded before the removal of the buffer, for the spans ending concurrently
+        if (decided.put(buffer.traceId, buffer.kept) == null) {
+            decidedOrder.offer(buffer.traceId);
+            if (decidedCount.incrementAndGet() > maxTraces) {
+                String eldest = decidedOrder.poll();
+                if (eldest != null) {
+                    decided.remove(eldest);
+                    decidedCount.decrementAndGet();
+                }
+            }
+        }
+        removePending(buffer);
+        List<ReadableSpan> spans = buffer.spans;
+        // The buffer may stay in the pending order for a while
+        buffer.spans = null;
+        return buffer.kept ? spans : null;
+    }
+
+    private static boolean hasError(List<ReadableSpan> spans) {
+        for (ReadableSpan span : spans) {
+            if (hasError(span)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasError(ReadableSpan span) {
+        // ReadableSpan does not expose the status, the span data is only created for the traces about to be dropped
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    private void removePending(TraceBuffer buffer) {
+        if (pending.remove(buffer.traceId, buffer)) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        vertx.cancelTimer(timerId);
+        flushPending();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        flushPending();
+        return delegate.forceFlush();
+    }
+
+    /**
+     * Decides for all the pending traces.
+     */
+    private void flushPending() {
+        for (TraceBuffer buffer : pending.values()) {
+            List<ReadableSpan> kept;
+            synchronized (buffer) {
+                if (buffer.decided) {
+                    continue;
+                }
+                kept = decide(buffer);
+            }
+            if (kept != null) {
+                kept.forEach(delegate::onEnd);
+            }
+        }
+    }
+
+    private static final class TraceBuffer {
+        private final String traceId;
+        private final long createdAt;
+        // guarded by this, null once decided
+        private List<ReadableSpan> spans = new ArrayList<>();
+        private boolean interesting;
+        private boolean decided;
+        private boolean kept;
+
+        private TraceBuffer(String traceId, long createdAt) {
+            this.traceId = traceId;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -26,7 +26,7 @@ public static Resource mapResourceAttributes(List<String> resourceAttributes) {
         return Resource.create(attributesBuilder.build());
     }
 
-    private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio) {
+    private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio, double rateLimit) {
         switch (samplerName) {
             case "on":
                 return Sampler.alwaysOn();
@@ -34,6 +34,8 @@ private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio
                 return Sampler.alwaysOff();
             case "ratio":
                 return Sampler.traceIdRatioBased(ratio.orElse(1.0d));
+            case "rate-limited":
+                return new RateLimitingSampler(rateLimit);
             default:
                 throw new IllegalArgumentException("Unrecognized value for sampler: " + samplerName);
         }
@@ -51,7 +53,7 @@ public static Sampler mapSampler(TracerRuntimeConfig.SamplerConfig samplerConfig
             break;
         }
         if (sampler == null) {
-            sampler = getBaseSampler(samplerConfig.samplerName, samplerConfig.ratio);
+            sampler = getBaseSampler(samplerConfig.samplerName, samplerConfig.ratio, samplerConfig.rateLimit);
         }
 
         if (!dropTargets.isEmpty()) {
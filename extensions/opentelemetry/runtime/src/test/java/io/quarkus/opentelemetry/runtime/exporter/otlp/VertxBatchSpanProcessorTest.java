@@ -0,0 +1,245 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+
+public class VertxBatchSpanProcessorTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private final List<ReceivedRequest> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startReceiver() throws Exception {
+        vertx = Vertx.vertx();
+        // A stub OTLP receiver, accepting both OTLP/gRPC (HTTP/2 without upgrade) and OTLP/HTTP requests
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.body().onSuccess(body -> {
+                    requests.add(new ReceivedRequest(request.path(), request.getHeader("content-type"), body));
+                    if ("application/grpc".equals(request.getHeader("content-type"))) {
+                        request.response()
+                                .putHeader("content-type", "application/grpc")
+                                .putTrailer("grpc-status", "0")
+                                // An empty ExportTraceServiceResponse
+                                .end(Buffer.buffer(new byte[5]));
+                    } else {
+                        request.response().putHeader("content-type", "application/x-protobuf").end();
+                    }
+                }))
+                .listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void stopReceiver() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void grpc() {
+        VertxBatchSpanProcessor processor = processor(OtlpExporterConfig.Protocol.GRPC, "", 512);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+        List<String> traceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Span span = tracerProvider.get("test").spanBuilder("span-" + i).startSpan();
+            traceIds.add(span.getSpanContext().getTraceId());
+            span.end();
+        }
+        assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        assertThat(requests).hasSize(1);
+        ReceivedRequest request = requests.get(0);
+        assertThat(request.path).isEqualTo(VertxOtlpSpanExporter.GRPC_PATH);
+        assertThat(request.contentType).isEqualTo("application/grpc");
+        // Uncompressed message, prefixed by its length
+        assertThat(request.body.getByte(0)).isEqualTo((byte) 0);
+        assertThat(request.body.getInt(1)).isEqualTo(request.body.length() - 5);
+        for (String traceId : traceIds) {
+            assertThat(request.containsId(traceId)).isTrue();
+        }
+        assertThat(request.contains("span-9".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(processor.getExportedSpans()).isEqualTo(10);
+        assertThat(processor.getDroppedSpans()).isZero();
+        assertThat(processor.getQueueSize()).isZero();
+
+        assertThat(tracerProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    @Test
+    void httpProtobufInBatches() {
+        VertxBatchSpanProcessor processor = processor(OtlpExporterConfig.Protocol.HTTP_PROTOBUF, "/custom", 4);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+        for (int i = 0; i < 10; i++) {
+            tracerProvider.get("test").spanBuilder("span-" + i).startSpan().end();
+        }
+        assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        assertThat(requests).hasSize(3);
+        for (ReceivedRequest request : requests) {
+            assertThat(request.path).isEqualTo("/custom/v1/traces");
+            assertThat(request.contentType).isEqualTo("application/x-protobuf");
+        }
+        assertThat(processor.getExportedSpans()).isEqualTo(10);
+
+        assertThat(tracerProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    @Test
+    void spansDroppedWhenQueueIsFull() throws Exception {
+        PendingExporter exporter = new PendingExporter();
+        OtlpExporterConfig.VertxExporterConfig config = config(4);
+        config.maxQueueSize = 4;
+        config.maxConcurrentExports = 1;
+        VertxBatchSpanProcessor processor = new VertxBatchSpanProcessor(vertx, exporter, config, MeterProvider.noop());
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+        // A full batch is exported right away
+        for (int i = 0; i < 4; i++) {
+            tracerProvider.get("test").spanBuilder("span-" + i).startSpan().end();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (exporter.results.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(exporter.results).hasSize(1);
+
+        // The export is still in flight, the spans are queued until the queue is full
+        for (int i = 0; i < 6; i++) {
+            tracerProvider.get("test").spanBuilder("span-" + i).startSpan().end();
+        }
+        assertThat(processor.getQueueSize()).isEqualTo(4);
+        assertThat(processor.getDroppedSpans()).isEqualTo(2);
+
+        // Once the export completes, the next batch is exported
+        exporter.results.get(0).succeed();
+        while (exporter.results.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(exporter.results).hasSize(2);
+        assertThat(exporter.exported.get(1)).hasSize(4);
+        exporter.results.get(1).succeed();
+
+        assertThat(tracerProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(processor.getExportedSpans()).isEqualTo(8);
+    }
+
+    @Test
+    void failedExportsReported() throws Exception {
+        PendingExporter exporter = new PendingExporter();
+        VertxBatchSpanProcessor processor = new VertxBatchSpanProcessor(vertx, exporter, config(4), MeterProvider.noop());
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+        for (int i = 0; i < 4; i++) {
+            tracerProvider.get("test").spanBuilder("span-" + i).startSpan().end();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (exporter.results.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        exporter.results.get(0).fail();
+        while (processor.getFailedSpans() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(processor.getFailedSpans()).isEqualTo(4);
+        assertThat(processor.getExportedSpans()).isZero();
+        assertThat(tracerProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    private VertxBatchSpanProcessor processor(OtlpExporterConfig.Protocol protocol, String path, int batchSize) {
+        VertxOtlpSpanExporter exporter = new VertxOtlpSpanExporter(vertx, "http://localhost:" + server.actualPort() + path,
+                protocol, Map.of(), Duration.ofSeconds(10), null);
+        return new VertxBatchSpanProcessor(vertx, exporter, config(batchSize), MeterProvider.noop());
+    }
+
+    private static OtlpExporterConfig.VertxExporterConfig config(int batchSize) {
+        OtlpExporterConfig.VertxExporterConfig config = new OtlpExporterConfig.VertxExporterConfig();
+        config.enabled = true;
+        config.maxQueueSize = 2048;
+        config.maxExportBatchSize = batchSize;
+        config.maxConcurrentExports = 2;
+        // Only exported when a batch is full or when flushed
+        config.scheduleDelay = Duration.ofHours(1);
+        return config;
+    }
+
+    private static final class ReceivedRequest {
+        private final String path;
+        private final String contentType;
+        private final Buffer body;
+
+        private ReceivedRequest(String path, String contentType, Buffer body) {
+            this.path = path;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        private boolean containsId(String hexId) {
+            byte[] id = new byte[hexId.length() / 2];
+            for (int i = 0; i < id.length; i++) {
+                id[i] = (byte) Integer.parseInt(hexId.substring(2 * i, 2 * i + 2), 16);
+            }
+            return contains(id);
+        }
+
+        private boolean contains(byte[] id) {
+            byte[] bytes = body.getBytes();
+            for (int i = 0; i <= bytes.length - id.length; i++) {
+                int j = 0;
+                while (j < id.length && bytes[i + j] == id[j]) {
+                    j++;
+                }
+                if (j == id.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class PendingExporter implements SpanExporter {
+        private final List<Collection<SpanData>> exported = new CopyOnWriteArrayList<>();
+        private final List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            CompletableResultCode result = new CompletableResultCode();
+            exported.add(spans);
+            results.add(result);
+            return result;
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
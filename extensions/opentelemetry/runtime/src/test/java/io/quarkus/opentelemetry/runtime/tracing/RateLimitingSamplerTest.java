@@ -0,0 +1,54 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+public class RateLimitingSamplerTest {
+
+    @Test
+    void limitPerRoute() {
+        RateLimitingSampler sampler = new RateLimitingSampler(10);
+
+        assertThat(sampled(sampler, "/hello?name=a", 20)).isBetween(10, 11);
+        // Another route has its own bucket
+        assertThat(sampled(sampler, "/bye", 20)).isBetween(10, 11);
+    }
+
+    @Test
+    void lowRate() {
+        RateLimitingSampler sampler = new RateLimitingSampler(0.5);
+
+        assertThat(sampled(sampler, "/hello", 10)).isEqualTo(1);
+    }
+
+    @Test
+    void route() {
+        assertThat(RateLimitingSampler.route("GET", SpanKind.SERVER,
+                Attributes.of(SemanticAttributes.HTTP_ROUTE, "/hello/{name}", SemanticAttributes.HTTP_TARGET, "/hello/a")))
+                .isEqualTo("/hello/{name}");
+        assertThat(RateLimitingSampler.route("GET", SpanKind.SERVER,
+                Attributes.of(SemanticAttributes.HTTP_TARGET, "/hello/a?b=c"))).isEqualTo("/hello/a");
+        assertThat(RateLimitingSampler.route("job", SpanKind.INTERNAL, Attributes.empty())).isEqualTo("job");
+    }
+
+    private static int sampled(RateLimitingSampler sampler, String target, int count) {
+        int sampled = 0;
+        for (int i = 0; i < count; i++) {
+            if (sampler.shouldSample(Context.root(), "00000000000000000000000000000001", "GET", SpanKind.SERVER,
+                    Attributes.of(SemanticAttributes.HTTP_TARGET, target), List.of())
+                    .getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.TracerRuntimeConfig;
+import io.vertx.core.Vertx;
+
+public class TailSamplingSpanProcessorTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void createVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void closeVertx() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void keepTracesWithErrors() {
+        CollectingProcessor collector = new CollectingProcessor();
+        Tracer tracer = tracer(collector, config());
+
+        trace(tracer, false, 0);
+        assertThat(collector.spans).isEmpty();
+
+        String traceId = trace(tracer, true, 0);
+        assertThat(collector.spans).hasSize(2)
+                .allMatch(span -> span.getSpanContext().getTraceId().equals(traceId));
+    }
+
+    @Test
+    void keepSlowTraces() {
+        CollectingProcessor collector = new CollectingProcessor();
+        TracerRuntimeConfig.TailSamplingConfig config = config();
+        config.latencyThreshold = Optional.of(Duration.ofMillis(100));
+        Tracer tracer = tracer(collector, config);
+
+        trace(tracer, false, 10);
+        assertThat(collector.spans).isEmpty();
+
+        trace(tracer, false, 200);
+        assertThat(collector.spans).hasSize(2);
+    }
+
+    @Test
+    void evictOldestTraces() {
+        CollectingProcessor collector = new CollectingProcessor();
+        TracerRuntimeConfig.TailSamplingConfig config = config();
+        config.maxTraces = 1;
+        Tracer tracer = tracer(collector, config);
+
+        // The local roots of these traces never end
+        Span first = tracer.spanBuilder("first").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(first)).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+        Span second = tracer.spanBuilder("second").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(second)).startSpan().end();
+
+        // The first trace is decided when the second one is buffered
+        assertThat(collector.spans).hasSize(1);
+        assertThat(collector.spans.get(0).getSpanContext().getTraceId()).isEqualTo(first.getSpanContext().getTraceId());
+
+        // The spans ending after the decision follow it
+        first.end();
+        second.end();
+        assertThat(collector.spans).hasSize(2);
+    }
+
+    @Test
+    void evictExpiredTracesPeriodically() throws Exception {
+        CollectingProcessor collector = new CollectingProcessor();
+        TracerRuntimeConfig.TailSamplingConfig config = config();
+        config.decisionWait = Duration.ofMillis(50);
+        Tracer tracer = tracer(collector, config);
+
+        // The local root of this trace never ends, and no other span ends afterwards
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+        assertThat(collector.spans).isEmpty();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (collector.spans.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(collector.spans).hasSize(1);
+    }
+
+    @Test
+    void concurrentTraces() throws Exception {
+        CollectingProcessor collector = new CollectingProcessor();
+        Tracer tracer = tracer(collector, config());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        trace(tracer, j % 2 == 0, 0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Only the traces with errors are kept, with all their spans
+        assertThat(collector.spans).hasSize(8 * 250 * 2);
+    }
+
+    private static String trace(Tracer tracer, boolean error, long durationInMs) {
+        long start = System.nanoTime();
+        Span root = tracer.spanBuilder("root").setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            Span child = tracer.spanBuilder("child").startSpan();
+            if (error) {
+                child.setStatus(StatusCode.ERROR);
+            }
+            child.end();
+        } finally {
+            root.end(start + TimeUnit.MILLISECONDS.toNanos(durationInMs), TimeUnit.NANOSECONDS);
+        }
+        return root.getSpanContext().getTraceId();
+    }
+
+    private Tracer tracer(SpanProcessor delegate, TracerRuntimeConfig.TailSamplingConfig config) {
+        return SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(delegate, config, vertx))
+                .build()
+                .get("test");
+    }
+
+    private static TracerRuntimeConfig.TailSamplingConfig config() {
+        TracerRuntimeConfig.TailSamplingConfig config = new TracerRuntimeConfig.TailSamplingConfig();
+        config.enabled = true;
+        config.errors = true;
+        config.latencyThreshold = Optional.empty();
+        config.ratio = 0;
+        config.maxTraces = 100;
+        config.maxSpansPerTrace = 100;
+        config.decisionWait = Duration.ofMinutes(1);
+        return config;
+    }
+
+    private static final class CollectingProcessor implements SpanProcessor {
+        private final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+/**
+ * Collects the HQL queries built by Panache from string literals passed to the query methods
+ * ({@code find}, {@code list}, {@code stream}, {@code count}, {@code delete}, {@code update}) of Panache entities
+ * and repositories.
+ */
+final class LiteralQueryCollector {
+
+    private static final Type STRING_TYPE = Type.getType(String.class);
+    private static final Type SORT_TYPE = Type.getType(Sort.class);
+
+    private final Map<String, String> ownerToEntity;
+
+    /**
+     * @param ownerToEntity the internal names of Panache entities and repositories, mapped to the managed entity class name
+     */
+    LiteralQueryCollector(Map<String, String> ownerToEntity) {
+        this.ownerToEntity = ownerToEntity;
+    }
+
+    /**
+     * @param classBytes the bytecode of the class to scan
+     * @param queries the collected queries, keyed by the entity class name
+     */
+    void collect(byte[] classBytes, Map<String, Set<String>> queries) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (!hasQueryMethodCall(method)) {
+                continue;
+            }
+            Frame<SourceValue>[] frames;
+            try {
+                frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+            } catch (AnalyzerException e) {
+                // not worth failing the build for an optimization
+                continue;
+            }
+            AbstractInsnNode[] instructions = method.instructions.toArray();
+            for (int i = 0; i < instructions.length; i++) {
+                if (!(instructions[i] instanceof MethodInsnNode) || frames[i] == null) {
+                    continue;
+                }
+                MethodInsnNode call = (MethodInsnNode) instructions[i];
+                if (!isQueryMethodCall(call)) {
+                    continue;
+                }
+                Type[] arguments = Type.getArgumentTypes(call.desc);
+                Frame<SourceValue> frame = frames[i];
+                SourceValue queryArgument = frame.getStack(frame.getStackSize() - arguments.length);
+                if (queryArgument.insns.size() != 1) {
+                    continue;
+                }
+                AbstractInsnNode source = queryArgument.insns.iterator().next();
+                if (source instanceof LdcInsnNode && ((LdcInsnNode) source).cst instanceof String) {
+                    String query = (String) ((LdcInsnNode) source).cst;
+                    if (PanacheJpaUtil.isNamedQuery(query)) {
+                        // named queries are already validated and compiled by Hibernate ORM on startup
+                        continue;
+                    }
+                    String entityName = ownerToEntity.get(call.owner);
+                    try {
+                        String hql = createQuery(call.name, entityName, query, 0);
+                        // the shorthand forms depend on the number of parameters, only known at runtime
+                        if (hql.equals(createQuery(call.name, entityName, query, 1))) {
+                            queries.computeIfAbsent(entityName, k -> new HashSet<>()).add(hql);
+                        }
+                    } catch (PanacheQueryException e) {
+                        // invalid queries are reported at runtime, when they are executed
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean hasQueryMethodCall(MethodNode method) {
+        for (AbstractInsnNode instruction : method.instructions) {
+            if (instruction instanceof MethodInsnNode && isQueryMethodCall((MethodInsnNode) instruction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQueryMethodCall(MethodInsnNode call) {
+        switch (call.name) {
+            case "find":
+            case "list":
+            case "stream":
+            case "count":
+            case "delete":
+            case "update":
+                break;
+            default:
+                return false;
+        }
+        if (!ownerToEntity.containsKey(call.owner)) {
+            return false;
+        }
+        Type[] arguments = Type.getArgumentTypes(call.desc);
+        if (arguments.length == 0 || !arguments[0].equals(STRING_TYPE)) {
+            return false;
+        }
+        // the order by clause is only known at runtime, the resulting query would not match
+        return arguments.length < 2 || !arguments[1].equals(SORT_TYPE);
+    }
+
+    private static String createQuery(String methodName, String entityName, String query, int paramCount) {
+        switch (methodName) {
+            case "count":
+                return PanacheJpaUtil.createCountQuery(entityName, query, paramCount);
+            case "delete":
+                return PanacheJpaUtil.createDeleteQuery(entityName, query, paramCount);
+            case "update":
+                return PanacheJpaUtil.createUpdateQuery(entityName, query, paramCount);
+            default:
+                return PanacheJpaUtil.createFindQuery(entityName, query, paramCount);
+        }
+    }
+}
@@ -2,6 +2,7 @@
 
 import static io.quarkus.panache.common.deployment.PanacheConstants.META_INF_PANACHE_ARCHIVE_MARKER;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,6 +20,7 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
@@ -30,11 +32,15 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveMarkerBuildItem;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
+import io.quarkus.hibernate.orm.deployment.HqlQueryBuildItem;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -48,6 +54,8 @@
 
 public final class PanacheHibernateResourceProcessor {
 
+    private static final Logger LOG = Logger.getLogger(PanacheHibernateResourceProcessor.class);
+
     static final DotName DOTNAME_PANACHE_REPOSITORY_BASE = DotName.createSimple(PanacheRepositoryBase.class.getName());
     private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheRepository.class.getName());
 
@@ -134,6 +142,67 @@ void build(
         recordPanacheEntityPersistenceUnits(recorder, jpaModelPersistenceUnitMapping, panacheEntities);
     }
 
+    @BuildStep
+    void collectLiteralQueries(HibernateOrmConfig hibernateOrmConfig,
+            ApplicationIndexBuildItem applicationIndex,
+            CombinedIndexBuildItem index,
+            List<PanacheEntityClassBuildItem> entityClasses,
+            Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping,
+            BuildProducer<HqlQueryBuildItem> hqlQueries) {
+        if (!hibernateOrmConfig.prepareQueryPlans || !jpaModelPersistenceUnitMapping.isPresent()) {
+            return;
+        }
+        Map<String, Set<String>> entityToPersistenceUnits = jpaModelPersistenceUnitMapping.get()
+                .getEntityToPersistenceUnits();
+
+        // the query methods can be called on the entities and on the repositories
+        Map<String, String> ownerToEntity = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            String entityClassName = entityClass.get().name().toString();
+            ownerToEntity.put(entityClassName.replace('.', '/'), entityClassName);
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY)) {
+                continue;
+            }
+            try {
+                List<org.jboss.jandex.Type> typeParameters = JandexUtil
+                        .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex());
+                ownerToEntity.put(classInfo.name().toString().replace('.', '/'),
+                        typeParameters.get(0).name().toString());
+            } catch (RuntimeException e) {
+                // preparing the query plans is only an optimization
+                LOG.debugf(e, "Unable to resolve the entity of repository %s", classInfo.name());
+            }
+        }
+        if (ownerToEntity.isEmpty()) {
+            return;
+        }
+
+        LiteralQueryCollector collector = new LiteralQueryCollector(ownerToEntity);
+        Map<String, Set<String>> entityQueries = new HashMap<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+            try {
+                collector.collect(IoUtil.readClassAsBytes(classLoader, classInfo.name().toString()), entityQueries);
+            } catch (IOException | RuntimeException e) {
+                // preparing the query plans is only an optimization
+                LOG.debugf(e, "Unable to collect the Panache queries of class %s", classInfo.name());
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : entityQueries.entrySet()) {
+            Set<String> persistenceUnits = entityToPersistenceUnits.get(entry.getKey());
+            if (persistenceUnits == null || persistenceUnits.size() != 1) {
+                continue;
+            }
+            String persistenceUnitName = persistenceUnits.iterator().next();
+            for (String query : entry.getValue()) {
+                hqlQueries.produce(new HqlQueryBuildItem(persistenceUnitName, query));
+            }
+        }
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
@@ -0,0 +1,38 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LiteralQueryPlanDisabledTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class))
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.prepare-query-plans", "false");
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void literalQueryPlansAreNotPrepared() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        QuarkusTransaction.requiringNew().run(() -> MyEntity.list("name = ?1", "foo"));
+
+        assertEquals(misses + 1, statistics.getQueryPlanCacheMissCount());
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LiteralQueryPlanTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class))
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void literalQueryPlansArePreparedOnStartup() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            MyEntity.count("name = ?1", "foo");
+            MyEntity.list("name = ?1", "foo");
+            MyEntity.list("order by name");
+        });
+
+        assertEquals(misses, statistics.getQueryPlanCacheMissCount());
+    }
+
+    @Test
+    public void shorthandQueryPlansAreNotPrepared() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        // the expansion of the shorthand form depends on the number of parameters
+        QuarkusTransaction.requiringNew().run(() -> MyEntity.count("id", 1L));
+
+        assertEquals(misses + 1, statistics.getQueryPlanCacheMissCount());
+    }
+}
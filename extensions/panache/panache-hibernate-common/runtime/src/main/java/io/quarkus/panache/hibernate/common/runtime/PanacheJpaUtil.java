@@ -57,13 +57,17 @@ public static String getEntityName(Class<?> entityClass) {
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return createFindQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createFindQuery(String entityName, String query, int paramCount) {
         if (query == null) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         String trimmed = query.trim();
         if (trimmed.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         String trimmedLc = trimmed.toLowerCase();
@@ -71,12 +75,12 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -87,12 +91,16 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        return createCountQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createCountQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -100,15 +108,19 @@ public static String createCountQuery(Class<?> entityClass, String query, int pa
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        return createUpdateQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createUpdateQuery(String entityName, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -129,18 +141,22 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
             query += " = ?1";
         }
         if (trimmedLc.startsWith("set ")) {
-            return "UPDATE FROM " + getEntityName(entityClass) + " " + query;
+            return "UPDATE FROM " + entityName + " " + query;
         }
-        return "UPDATE FROM " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE FROM " + entityName + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return createDeleteQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createDeleteQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("delete ")) {
@@ -151,12 +167,12 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -48,6 +48,7 @@
 import io.quarkus.redis.client.RedisHostsProvider;
 import io.quarkus.redis.client.RedisOptionsCustomizer;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.runtime.client.RedisClientRecorder;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.runtime.LaunchMode;
@@ -109,8 +110,8 @@ List<AdditionalBeanBuildItem> registerRedisClientName() {
     }
 
     @BuildStep
-    UnremovableBeanBuildItem makeHostsProviderAndOptionsCustomizerUnremovable() {
-        return UnremovableBeanBuildItem.beanTypes(RedisHostsProvider.class, RedisOptionsCustomizer.class);
+    UnremovableBeanBuildItem makeHostsProviderOptionsCustomizerAndCodecsUnremovable() {
+        return UnremovableBeanBuildItem.beanTypes(RedisHostsProvider.class, RedisOptionsCustomizer.class, Codec.class);
     }
 
     @BuildStep
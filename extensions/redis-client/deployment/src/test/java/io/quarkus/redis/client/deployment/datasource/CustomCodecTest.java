@@ -0,0 +1,89 @@
+package io.quarkus.redis.client.deployment.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.client.deployment.RedisTestResource;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.vertx.core.buffer.Buffer;
+
+@QuarkusTestResource(RedisTestResource.class)
+public class CustomCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Person.class, PersonCodec.class))
+            .overrideConfigKey("quarkus.redis.hosts", "${quarkus.redis.tr}");
+
+    @Inject
+    RedisDataSource ds;
+
+    @Inject
+    PersonCodec codec;
+
+    @Test
+    public void testThatTheCodecBeanIsUsed() {
+        String key = UUID.randomUUID().toString();
+        ValueCommands<String, Person> persons = ds.value(Person.class);
+        ValueCommands<String, String> strings = ds.value(String.class);
+
+        persons.set(key, new Person("luke", 42));
+        Assertions.assertThat(strings.get(key)).isEqualTo("luke;42");
+
+        Person person = persons.get(key);
+        Assertions.assertThat(person.name).isEqualTo("luke");
+        Assertions.assertThat(person.age).isEqualTo(42);
+        Assertions.assertThat(codec.getBufferDecodings()).isEqualTo(1);
+    }
+
+    public static class Person {
+        public final String name;
+        public final int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    @ApplicationScoped
+    public static class PersonCodec implements Codec<Person> {
+
+        private final AtomicInteger bufferDecodings = new AtomicInteger();
+
+        public int getBufferDecodings() {
+            return bufferDecodings.get();
+        }
+
+        @Override
+        public byte[] encode(Person item) {
+            return (item.name + ";" + item.age).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Person decode(byte[] item) {
+            return decode(Buffer.buffer(item));
+        }
+
+        @Override
+        public Person decode(Buffer item) {
+            bufferDecodings.incrementAndGet();
+            String[] segments = item.toString(StandardCharsets.UTF_8).split(";");
+            return new Person(segments[0], Integer.parseInt(segments[1]));
+        }
+    }
+}
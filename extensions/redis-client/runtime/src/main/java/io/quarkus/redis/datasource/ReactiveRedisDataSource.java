@@ -4,6 +4,7 @@
 import java.util.function.Function;
 
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.BatchResult;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
@@ -127,6 +128,23 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Retrieves a {@link ReactiveTransactionalRedisDataSource} queuing commands in a batch.
+     * Unlike {@link #withTransaction(Function)}, the commands are not wrapped in a Redis transaction ({@code MULTI}):
+     * they are queued on the client side and sent together, in a single round trip (pipelining), when the passed block
+     * emits the {@code null} item. Commands from other clients can be interleaved with the commands of the batch.
+     * <p>
+     * The results of the commands are retrieved using the produced {@link BatchResult}, in the order in which the
+     * commands have been queued. If one of the commands fails, the produced {@code Uni} emits the failure.
+     * <p>
+     * A batch cannot be discarded: calling {@link ReactiveTransactionalRedisDataSource#discard()} inside the block
+     * fails with an {@link UnsupportedOperationException}.
+     *
+     * @param batch the function receiving the data source queuing the commands. The queued commands are only sent
+     *        at the end of the block.
+     */
+    Uni<BatchResult> withBatch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> batch);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
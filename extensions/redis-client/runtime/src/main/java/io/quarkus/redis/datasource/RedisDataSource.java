@@ -5,6 +5,7 @@
 import java.util.function.Function;
 
 import io.quarkus.redis.datasource.autosuggest.AutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.BatchResult;
 import io.quarkus.redis.datasource.bitmap.BitMapCommands;
 import io.quarkus.redis.datasource.bloom.BloomCommands;
 import io.quarkus.redis.datasource.countmin.CountMinCommands;
@@ -123,6 +124,23 @@ <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSour
             BiConsumer<I, TransactionalRedisDataSource> tx,
             String... watchedKeys);
 
+    /**
+     * Retrieves a {@link TransactionalRedisDataSource} queuing commands in a batch.
+     * Unlike {@link #withTransaction(Consumer)}, the commands are not wrapped in a Redis transaction ({@code MULTI}):
+     * they are queued on the client side and sent together, in a single round trip (pipelining), when the passed block
+     * completes. Commands from other clients can be interleaved with the commands of the batch.
+     * <p>
+     * The results of the commands are retrieved using the returned {@link BatchResult}, in the order in which the
+     * commands have been queued. If one of the commands fails, this method throws the failure.
+     * <p>
+     * A batch cannot be discarded: calling {@link TransactionalRedisDataSource#discard()} inside the block fails with an
+     * {@link UnsupportedOperationException}.
+     *
+     * @param batch the consumer receiving the data source queuing the commands. The queued commands are only sent
+     *        at the end of the block.
+     */
+    BatchResult withBatch(Consumer<TransactionalRedisDataSource> batch);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
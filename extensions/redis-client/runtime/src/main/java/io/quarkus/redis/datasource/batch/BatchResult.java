@@ -0,0 +1,33 @@
+package io.quarkus.redis.datasource.batch;
+
+/**
+ * A structure holding the results of the commands sent in a batch. Note that the results are ordered, and the
+ * (0-based) index of the command must be used to retrieve the result of a specific command.
+ */
+public interface BatchResult extends Iterable<Object> {
+
+    /**
+     * Returns the number of responses.
+     *
+     * @return the number of responses
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this {@link BatchResult} contains no responses.
+     *
+     * @return {@code true} if this {@link BatchResult} contains no responses
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the response at the specified position in this {@link BatchResult}.
+     * It contains the result of the command queued at the same position in the batch.
+     *
+     * @param index index of the element to return
+     * @param <T> the expected type
+     * @return the element at the specified position in this {@link BatchResult}
+     */
+    <T> T get(int index);
+
+}
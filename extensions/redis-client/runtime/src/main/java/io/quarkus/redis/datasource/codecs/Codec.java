@@ -1,9 +1,51 @@
 package io.quarkus.redis.datasource.codecs;
 
+import java.lang.reflect.Type;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Encodes and decodes the values stored in Redis.
+ * <p>
+ * Codecs exposed as CDI beans are registered on startup and used in place of the default ones (including the
+ * JSON fallback) for the types they {@linkplain #canHandle(Type) handle}. This allows plugging more efficient
+ * serialization formats, such as binary JSON.
+ *
+ * @param <T> the type of value
+ */
 public interface Codec<T> {
 
+    /**
+     * Checks if the current codec can handle the serialization and deserialization of object from the given type.
+     * Only used for the codecs exposed as CDI beans.
+     * <p>
+     * The default implementation accepts the type declared by the codec class, such as {@code Person} for a class
+     * implementing {@code Codec<Person>}. Codecs declaring a type variable, or handling several types, must override
+     * this method.
+     *
+     * @param clazz the type, cannot be {@code null}
+     * @return {@code true} if the codec can handle the type, {@code false} otherwise
+     */
+    default boolean canHandle(Type clazz) {
+        return clazz.equals(Codecs.getDeclaredType(getClass()));
+    }
+
     byte[] encode(T item);
 
     T decode(byte[] item);
 
+    /**
+     * Decodes the given buffer, which wraps the payload received from Redis.
+     * <p>
+     * The default implementation copies the content of the buffer into a byte array and calls {@link #decode(byte[])}.
+     * Codecs able to read from the buffer directly should override this method to avoid the copy. The buffer must not
+     * be modified or retained.
+     *
+     * @param item the buffer, cannot be {@code null}
+     * @return the decoded value
+     */
+    default T decode(Buffer item) {
+        return decode(item.getBytes());
+    }
+
 }
@@ -1,5 +1,8 @@
 package io.quarkus.redis.datasource.codecs;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.nio.charset.StandardCharsets;
 
 import io.vertx.core.buffer.Buffer;
@@ -11,6 +14,24 @@ private Codecs() {
         // Avoid direct instantiation
     }
 
+    /**
+     * @param codecClass the class of a codec
+     * @return the type of value declared by the codec class, {@code null} if it is not a concrete type
+     */
+    static Type getDeclaredType(Class<?> codecClass) {
+        // Walk the superclasses, the codec beans can be subclassed by the client proxies
+        for (Class<?> current = codecClass; current != null && current != Object.class; current = current
+                .getSuperclass()) {
+            for (Type type : current.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == Codec.class) {
+                    Type declared = ((ParameterizedType) type).getActualTypeArguments()[0];
+                    return declared instanceof TypeVariable ? null : declared;
+                }
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> Codec<T> getDefaultCodecFor(Class<T> clazz) {
         if (clazz.equals(Double.class) || clazz.equals(Double.TYPE)) {
@@ -42,10 +63,20 @@ public byte[] encode(T item) {
             return Json.encodeToBuffer(item).getBytes();
         }
 
+        @Override
+        public boolean canHandle(Type clazz) {
+            return this.clazz.equals(clazz);
+        }
+
         @Override
         public T decode(byte[] payload) {
             return Json.decodeValue(Buffer.buffer(payload), clazz);
         }
+
+        @Override
+        public T decode(Buffer item) {
+            return Json.decodeValue(item, clazz);
+        }
     }
 
     public static class StringCodec implements Codec<String> {
@@ -56,6 +87,11 @@ private StringCodec() {
             // Avoid direct instantiation;
         }
 
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz.equals(String.class);
+        }
+
         @Override
         public byte[] encode(String item) {
             return item.getBytes(StandardCharsets.UTF_8);
@@ -65,6 +101,11 @@ public byte[] encode(String item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String decode(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec<Double> {
@@ -75,6 +116,11 @@ private DoubleCodec() {
             // Avoid direct instantiation;
         }
 
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz.equals(Double.class) || clazz.equals(Double.TYPE);
+        }
+
         @Override
         public byte[] encode(Double item) {
             if (item == null) {
@@ -100,6 +146,11 @@ private IntegerCodec() {
             // Avoid direct instantiation;
         }
 
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz.equals(Integer.class) || clazz.equals(Integer.TYPE);
+        }
+
         @Override
         public byte[] encode(Integer item) {
             if (item == null) {
@@ -125,6 +176,11 @@ private ByteArrayCodec() {
             // Avoid direct instantiation;
         }
 
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz.equals(byte[].class);
+        }
+
         @Override
         public byte[] encode(byte[] item) {
             return item;
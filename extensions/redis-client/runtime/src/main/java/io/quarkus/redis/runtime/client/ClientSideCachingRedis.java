@@ -0,0 +1,536 @@
+package io.quarkus.redis.runtime.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.runtime.client.config.ClientSideCacheConfig;
+import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+import io.vertx.redis.client.impl.RequestImpl;
+
+/**
+ * An implementation of the {@link Redis} interface serving the responses of read commands from a local, bounded cache.
+ * <p>
+ * The cache is kept consistent using the Redis server-assisted client-side caching: a dedicated connection subscribes
+ * to the {@code __redis__:invalidate} channel, and a second one enables {@code CLIENT TRACKING} in broadcasting mode,
+ * redirecting the invalidation messages to the first one. The cache is only used while both connections are up; when
+ * one of them fails, the cache is cleared and the commands are sent to the server until the tracking is re-established.
+ * <p>
+ * The commands modifying strings and hashes sent by this client also invalidate the cached responses of the tracked
+ * keys they write, when they are sent and when they complete, so that a read following a write returns the written
+ * value without waiting for the invalidation message. The keys are read from the key positions of the commands; the
+ * other commands are sent as they are.
+ * <p>
+ * Commands sent through {@link #connect()} (transactions, batches using a single connection...) are never cached.
+ */
+public class ClientSideCachingRedis implements Redis {
+
+    private static final Logger LOGGER = Logger.getLogger(ClientSideCachingRedis.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    /**
+     * The minimum delay between two attempts to enable the tracking, to avoid hammering a server that does not
+     * support it.
+     */
+    private static final long RETRY_DELAY_IN_NS = 5_000_000_000L;
+
+    /**
+     * The number of invalidation counters, a power of two.
+     */
+    private static final int GENERATIONS = 1024;
+
+    private static final Set<Command> CACHEABLE_COMMANDS = Set.of(
+            Command.GET, Command.GETRANGE, Command.STRLEN, Command.MGET,
+            Command.HGET, Command.HMGET, Command.HGETALL, Command.HEXISTS, Command.HLEN, Command.HKEYS, Command.HVALS,
+            Command.HSTRLEN);
+
+    /**
+     * The commands modifying strings and hashes, and so the cached responses, whose key positions are all the written
+     * keys. The cached responses of these keys are discarded as soon as the commands are sent. The modifications made
+     * by the other commands are only discarded when the invalidation message is received.
+     */
+    private static final Set<Command> WRITE_COMMANDS = Set.of(
+            Command.SET, Command.SETEX, Command.PSETEX, Command.SETNX, Command.SETRANGE, Command.APPEND, Command.GETSET,
+            Command.GETDEL, Command.GETEX, Command.MSET, Command.MSETNX, Command.INCR, Command.INCRBY,
+            Command.INCRBYFLOAT, Command.DECR, Command.DECRBY, Command.SETBIT, Command.BITFIELD,
+            Command.HSET, Command.HSETNX, Command.HMSET, Command.HDEL, Command.HINCRBY, Command.HINCRBYFLOAT,
+            Command.DEL, Command.UNLINK, Command.EXPIRE, Command.PEXPIRE, Command.EXPIREAT, Command.PEXPIREAT,
+            Command.COPY, Command.MOVE, Command.RESTORE);
+
+    private final Redis redis;
+    private final Redis tracking;
+    private final String name;
+    private final ObservableRedisMetrics reporter;
+    private final long ttlInNs;
+    private final int maxSize;
+    private final List<String> prefixes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * The cached entries in insertion order, the oldest ones are evicted first. It may also contain entries already
+     * removed from the cache, which are dropped when they reach the head of the queue.
+     */
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    /**
+     * The cached entries of each key. The sets are only accessed within the atomic operations of the map.
+     */
+    private final Map<String, Set<Entry>> entriesPerKey = new ConcurrentHashMap<>();
+    /**
+     * Counters incremented when a key is invalidated, indexed by the hash of the key. A response is not cached if one of
+     * the counters of its keys changed while the command was in flight, as it may have been read before the
+     * modification.
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATIONS);
+
+    private volatile boolean active;
+    private volatile long lastAttempt;
+    // guarded by this
+    private boolean connecting;
+    private boolean closed;
+    private boolean warned;
+    private RedisConnection subscriber;
+    private RedisConnection tracker;
+
+    /**
+     * Creates a new client-side caching client.
+     *
+     * @param redis the client used to send the commands
+     * @param tracking the client used to open the two long-lived tracking connections
+     * @param name the client name
+     * @param reporter the metrics reporter, can be {@code null}
+     * @param config the cache configuration
+     */
+    public ClientSideCachingRedis(Redis redis, Redis tracking, String name, ObservableRedisMetrics reporter,
+            ClientSideCacheConfig config) {
+        this.redis = redis;
+        this.tracking = tracking;
+        this.name = name;
+        this.reporter = reporter == null ? ObservableRedisMetrics.NOOP : reporter;
+        this.ttlInNs = config.ttl.toNanos();
+        this.maxSize = config.maxSize;
+        this.prefixes = config.prefixes.orElse(List.of());
+        this.connecting = true;
+        this.lastAttempt = System.nanoTime();
+        startTracking();
+    }
+
+    /**
+     * @return the number of responses currently cached
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return whether the invalidation messages are currently received, and so whether the cache is used
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return redis.connect();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        stopTracking();
+        tracking.close();
+        redis.close();
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        long now = System.nanoTime();
+        if (!active) {
+            retryTracking(now);
+            return redis.send(command);
+        }
+        if (!CACHEABLE_COMMANDS.contains(command.command())) {
+            String[] written = trackedWrittenKeys(command);
+            if (written == null) {
+                return redis.send(command);
+            }
+            invalidateWritten(written);
+            return redis.send(command).onComplete(ar -> invalidateWritten(written));
+        }
+        String[] keys = trackedKeys(command);
+        if (keys == null) {
+            return redis.send(command);
+        }
+        String signature = command.toString();
+        // The invalid UTF-8 sequences of binary arguments are replaced, different commands could get the same signature
+        if (signature.indexOf('\uFFFD') >= 0) {
+            return redis.send(command);
+        }
+        Entry entry = entries.get(signature);
+        if (entry != null) {
+            if (now - entry.cachedAt < ttlInNs) {
+                reporter.reportCacheAccess(name, true);
+                return Future.succeededFuture(entry.response);
+            }
+            remove(entry);
+        }
+        long[] snapshot = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            snapshot[i] = generations.get(slot(keys[i]));
+        }
+        reporter.reportCacheAccess(name, false);
+        return redis.send(command).onSuccess(response -> cache(signature, keys, snapshot, response, now));
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        if (!active) {
+            return redis.batch(commands);
+        }
+        List<String> written = new ArrayList<>();
+        for (Request command : commands) {
+            String[] keys = trackedWrittenKeys(command);
+            if (keys != null) {
+                written.addAll(List.of(keys));
+            }
+        }
+        if (written.isEmpty()) {
+            return redis.batch(commands);
+        }
+        String[] keys = written.toArray(new String[0]);
+        invalidateWritten(keys);
+        return redis.batch(commands).onComplete(ar -> invalidateWritten(keys));
+    }
+
+    /**
+     * @return the keys of the given command, read from the key positions of the command, {@code null} if they cannot
+     *         be determined
+     */
+    private static String[] keys(Request command) {
+        // The Request API does not expose the arguments, but the default implementation extracts the keys
+        if (!(command instanceof RequestImpl)) {
+            return null;
+        }
+        List<byte[]> keys = ((RequestImpl) command).keys();
+        String[] names = new String[keys.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new String(keys.get(i), StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    /**
+     * @return the keys of the given read command, {@code null} if one of them is not tracked
+     */
+    private String[] trackedKeys(Request command) {
+        String[] keys = keys(command);
+        if (keys == null || keys.length == 0) {
+            return null;
+        }
+        for (String key : keys) {
+            if (!isTracked(key)) {
+                return null;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the tracked keys written by the given command, {@code null} if there is none
+     */
+    private String[] trackedWrittenKeys(Request command) {
+        if (!WRITE_COMMANDS.contains(command.command())) {
+            return null;
+        }
+        String[] keys = keys(command);
+        if (keys == null) {
+            return null;
+        }
+        List<String> tracked = null;
+        for (String key : keys) {
+            if (isTracked(key)) {
+                if (tracked == null) {
+                    tracked = new ArrayList<>(keys.length);
+                }
+                tracked.add(key);
+            }
+        }
+        return tracked == null ? null : tracked.toArray(new String[0]);
+    }
+
+    private void cache(String signature, String[] keys, long[] snapshot, Response response, long cachedAt) {
+        if (!active || changed(keys, snapshot)) {
+            return;
+        }
+        Entry entry = new Entry(signature, response, keys, cachedAt);
+        Entry previous = entries.put(signature, entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String key : keys) {
+            entriesPerKey.compute(key, (k, cached) -> {
+                Set<Entry> result = cached == null ? new HashSet<>() : cached;
+                result.add(entry);
+                return result;
+            });
+        }
+        order.add(entry);
+        // An invalidation which happened before the entry was indexed did not remove it
+        if (changed(keys, snapshot)) {
+            remove(entry);
+        } else {
+            evict(cachedAt);
+        }
+    }
+
+    private boolean changed(String[] keys, long[] snapshot) {
+        for (int i = 0; i < keys.length; i++) {
+            if (generations.get(slot(keys[i])) != snapshot[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the oldest entries while they are expired, or while the cache is full.
+     */
+    private void evict(long now) {
+        for (Entry oldest = order.peek(); oldest != null; oldest = order.peek()) {
+            boolean removed = entries.get(oldest.signature) != oldest;
+            if (!removed && now - oldest.cachedAt < ttlInNs && entries.size() <= maxSize) {
+                return;
+            }
+            if (order.remove(oldest) && !removed) {
+                remove(oldest);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entries.remove(entry.signature, entry)) {
+            unindex(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String key : entry.keys) {
+            entriesPerKey.computeIfPresent(key, (k, cached) -> {
+                cached.remove(entry);
+                return cached.isEmpty() ? null : cached;
+            });
+        }
+    }
+
+    private static int slot(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATIONS - 1);
+    }
+
+    private boolean isTracked(String key) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidateWritten(String[] keys) {
+        int count = 0;
+        for (String key : keys) {
+            count += invalidateKey(key);
+        }
+        if (count > 0) {
+            reporter.reportCacheInvalidation(name, count);
+        }
+    }
+
+    void invalidate(String key) {
+        int count = invalidateKey(key);
+        if (count > 0) {
+            reporter.reportCacheInvalidation(name, count);
+        }
+    }
+
+    private int invalidateKey(String key) {
+        generations.incrementAndGet(slot(key));
+        Set<Entry> cached = entriesPerKey.remove(key);
+        if (cached == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Entry entry : cached) {
+            if (entries.remove(entry.signature, entry)) {
+                count++;
+                if (entry.keys.length > 1) {
+                    unindex(entry);
+                }
+            }
+        }
+        return count;
+    }
+
+    void invalidateAll() {
+        for (int i = 0; i < GENERATIONS; i++) {
+            generations.incrementAndGet(i);
+        }
+        int count = entries.size();
+        entries.clear();
+        entriesPerKey.clear();
+        if (count > 0) {
+            reporter.reportCacheInvalidation(name, count);
+        }
+    }
+
+    private void retryTracking(long now) {
+        if (now - lastAttempt <= RETRY_DELAY_IN_NS) {
+            return;
+        }
+        synchronized (this) {
+            if (active || connecting || closed || now - lastAttempt <= RETRY_DELAY_IN_NS) {
+                return;
+            }
+            connecting = true;
+            lastAttempt = now;
+        }
+        startTracking();
+    }
+
+    private void startTracking() {
+        tracking.connect()
+                .compose(connection -> {
+                    synchronized (this) {
+                        subscriber = connection;
+                    }
+                    connection.handler(this::onMessage);
+                    connection.exceptionHandler(this::onFailure);
+                    connection.endHandler(x -> onFailure(null));
+                    return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                            .compose(id -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL))
+                                    .map(x -> id.toLong()));
+                })
+                .compose(id -> tracking.connect()
+                        .compose(connection -> {
+                            synchronized (this) {
+                                tracker = connection;
+                            }
+                            connection.exceptionHandler(this::onFailure);
+                            connection.endHandler(x -> onFailure(null));
+                            Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                    .arg("REDIRECT").arg(id).arg("BCAST");
+                            for (String prefix : prefixes) {
+                                request.arg("PREFIX").arg(prefix);
+                            }
+                            return connection.send(request);
+                        }))
+                .onComplete(ar -> {
+                    if (ar.succeeded()) {
+                        synchronized (this) {
+                            connecting = false;
+                            active = !closed;
+                        }
+                        LOGGER.debugf("Client-side caching enabled for the Redis client %s", name);
+                    } else {
+                        boolean first;
+                        synchronized (this) {
+                            first = !warned;
+                            warned = true;
+                        }
+                        LOGGER.logf(first ? Logger.Level.WARN : Logger.Level.DEBUG, ar.cause(),
+                                "Unable to enable the client-side caching for the Redis client %s, "
+                                        + "commands are sent to the server",
+                                name);
+                        stopTracking();
+                    }
+                });
+    }
+
+    private void onMessage(Response message) {
+        if (message == null || message.type() != ResponseType.MULTI && message.type() != ResponseType.PUSH
+                || message.size() == 0) {
+            return;
+        }
+        String kind = message.get(0).toString();
+        Response keys;
+        if ("message".equalsIgnoreCase(kind) && message.size() == 3
+                && INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            keys = message.get(2);
+        } else if ("invalidate".equalsIgnoreCase(kind) && message.size() == 2) {
+            keys = message.get(1);
+        } else {
+            return;
+        }
+        if (keys == null || keys.type() != ResponseType.MULTI) {
+            // Sent on FLUSHALL / FLUSHDB
+            invalidateAll();
+        } else {
+            for (Response key : keys) {
+                invalidate(key.toString());
+            }
+        }
+    }
+
+    private void onFailure(Throwable failure) {
+        if (active) {
+            LOGGER.warnf(failure, "Lost the client-side caching invalidation connection of the Redis client %s", name);
+        }
+        stopTracking();
+    }
+
+    private void stopTracking() {
+        List<RedisConnection> connections = new ArrayList<>(2);
+        synchronized (this) {
+            active = false;
+            connecting = false;
+            if (subscriber != null) {
+                connections.add(subscriber);
+                subscriber = null;
+            }
+            if (tracker != null) {
+                connections.add(tracker);
+                tracker = null;
+            }
+        }
+        invalidateAll();
+        for (RedisConnection connection : connections) {
+            connection.endHandler(null);
+            connection.exceptionHandler(null);
+            connection.close();
+        }
+    }
+
+    private static final class Entry {
+        private final String signature;
+        private final Response response;
+        private final String[] keys;
+        private final long cachedAt;
+
+        private Entry(String signature, Response response, String[] keys, long cachedAt) {
+            this.signature = signature;
+            this.response = response;
+            this.keys = keys;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
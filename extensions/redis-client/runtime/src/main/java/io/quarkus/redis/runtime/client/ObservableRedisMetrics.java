@@ -12,6 +12,27 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the {@link ClientSideCachingRedis} when a cacheable command is executed.
+     *
+     * @param name the client name
+     * @param hit whether the response has been served from the client-side cache
+     */
+    default void reportCacheAccess(String name, boolean hit) {
+
+    }
+
+    /**
+     * Method called by the {@link ClientSideCachingRedis} when cached responses are discarded, either because the
+     * server notified the client that the keys have been modified, or because the cache has been cleared.
+     *
+     * @param name the client name
+     * @param count the number of discarded responses
+     */
+    default void reportCacheInvalidation(String name, int count) {
+
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
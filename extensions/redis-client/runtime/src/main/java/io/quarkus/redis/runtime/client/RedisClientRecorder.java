@@ -3,6 +3,7 @@
 import static io.quarkus.redis.runtime.client.config.RedisConfig.DEFAULT_CLIENT_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,11 +13,15 @@
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
@@ -30,10 +35,13 @@
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisClientRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger(RedisClientRecorder.class);
+
     // Split client and DS recorders
 
     private final RedisConfig config;
@@ -41,6 +49,7 @@ public class RedisClientRecorder {
     private static final Map<String, ReactiveRedisDataSourceImpl> dataSources = new HashMap<>();
     private Vertx vertx;
     private ObservableRedisMetrics metrics;
+    private List<Codec<?>> codecs = List.of();
 
     public RedisClientRecorder(RedisConfig rc) {
         this.config = rc;
@@ -54,6 +63,13 @@ public void initialize(RuntimeValue<io.vertx.core.Vertx> vertx, Set<String> name
             this.metrics = null;
         }
 
+        List<Codec<?>> codecs = new ArrayList<>();
+        for (Codec<?> codec : CDI.current().select(new TypeLiteral<Codec<?>>() {
+        })) {
+            codecs.add(codec);
+        }
+        this.codecs = codecs;
+
         this.vertx = Vertx.newInstance(vertx.getValue());
         _initialize(vertx.getValue(), names);
     }
@@ -78,11 +94,10 @@ public ConfigurationException get() {
                             }
                         });
                 clients.computeIfAbsent(name,
-                        x -> new RedisClientAndApi(name, VertxRedisClientFactory.create(name, vertx, actualConfig), metrics));
+                        x -> new RedisClientAndApi(name, vertx, actualConfig, metrics));
             } else if (DEFAULT_CLIENT_NAME.equalsIgnoreCase(name) && maybe.isPresent()) {
                 clients.computeIfAbsent(name,
-                        x -> new RedisClientAndApi(name,
-                                VertxRedisClientFactory.create(DEFAULT_CLIENT_NAME, vertx, maybe.get()), metrics));
+                        x -> new RedisClientAndApi(DEFAULT_CLIENT_NAME, vertx, maybe.get(), metrics));
             }
             // Do not throw an error. We would need to check if the default redis client is used.
         }
@@ -146,7 +161,7 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, codecs);
                 });
             }
         };
@@ -236,10 +251,23 @@ public void preload(String name, List<String> loadScriptPaths, boolean redisFlus
     private static class RedisClientAndApi {
         private final Redis redis;
         private final RedisAPI api;
-        private final ObservableRedis observable;
+        private final io.vertx.redis.client.Redis observable;
 
-        private RedisClientAndApi(String name, io.vertx.redis.client.Redis redis, ObservableRedisMetrics metrics) {
-            this.observable = new ObservableRedis(redis, name, metrics);
+        private RedisClientAndApi(String name, io.vertx.core.Vertx vertx, RedisClientConfig config,
+                ObservableRedisMetrics metrics) {
+            ObservableRedis observable = new ObservableRedis(VertxRedisClientFactory.create(name, vertx, config), name,
+                    metrics);
+            if (config.clientSideCache.enabled && config.clientType != RedisClientType.STANDALONE) {
+                LOGGER.warnf("Client-side caching is only supported by the standalone Redis clients, "
+                        + "it is disabled for the Redis client %s", name);
+                this.observable = observable;
+            } else if (config.clientSideCache.enabled) {
+                // The tracking connections are long-lived, use a dedicated client to avoid taking them from the pool
+                this.observable = new ClientSideCachingRedis(observable, VertxRedisClientFactory.create(name, vertx, config),
+                        name, metrics, config.clientSideCache);
+            } else {
+                this.observable = observable;
+            }
             this.redis = Redis.newInstance(this.observable);
             this.api = RedisAPI.api(this.redis);
         }
@@ -0,0 +1,55 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class ClientSideCacheConfig {
+
+    /**
+     * Whether the responses of read commands ({@code GET}, {@code HGET}, {@code HGETALL}...) are cached on the client
+     * side.
+     * <p>
+     * The cache relies on the Redis {@code CLIENT TRACKING} feature (Redis 6+) in broadcasting mode: entries are
+     * evicted as soon as the server notifies the client that the corresponding keys have been modified.
+     * Only the {@code standalone} client type is supported.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of responses kept in the cache.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public int maxSize;
+
+    /**
+     * The maximum duration a response is kept in the cache, even if no invalidation message has been received.
+     */
+    @ConfigItem(defaultValue = "60s")
+    public Duration ttl;
+
+    /**
+     * The key prefixes to track. Only the keys starting with one of these prefixes are cached.
+     * <p>
+     * If not set, all the keys are tracked, meaning that the client receives an invalidation message for every
+     * modified key.
+     */
+    @ConfigItem
+    public Optional<List<String>> prefixes;
+
+    @Override
+    public String toString() {
+        return "ClientSideCacheConfig{" +
+                "enabled=" + enabled +
+                ", maxSize=" + maxSize +
+                ", ttl=" + ttl +
+                ", prefixes=" + prefixes +
+                '}';
+    }
+}
@@ -140,6 +140,13 @@ public class RedisClientConfig {
     @ConfigItem(defaultValue = "true")
     public boolean protocolNegotiation;
 
+    /**
+     * Client-side cache config.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public ClientSideCacheConfig clientSideCache;
+
     /**
      * TCP config.
      */
@@ -174,6 +181,7 @@ public String toString() {
                 ", reconnectAttempts=" + reconnectAttempts +
                 ", reconnectInterval=" + reconnectInterval +
                 ", protocolNegotiation=" + protocolNegotiation +
+                ", clientSideCache=" + clientSideCache +
                 ", tcp=" + tcp +
                 ", tls=" + tls +
                 '}';
@@ -11,7 +11,7 @@
 public class AbstractAutoSuggestCommands<K> extends AbstractRedisCommands {
 
     AbstractAutoSuggestCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
     }
 
     Uni<Response> _ftSugAdd(K key, String string, double score, boolean increment) {
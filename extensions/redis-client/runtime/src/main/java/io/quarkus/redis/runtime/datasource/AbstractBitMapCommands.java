@@ -14,7 +14,7 @@
 class AbstractBitMapCommands<K> extends AbstractRedisCommands {
 
     AbstractBitMapCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
     }
 
     Uni<Response> _bitcount(K key) {
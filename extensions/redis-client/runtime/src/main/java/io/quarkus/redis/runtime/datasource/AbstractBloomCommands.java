@@ -12,7 +12,7 @@
 class AbstractBloomCommands<K, V> extends AbstractRedisCommands {
 
     AbstractBloomCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
     }
 
     Uni<Response> _bfadd(K key, V value) {
@@ -14,7 +14,7 @@
 public class AbstractCountMinCommands<K, V> extends AbstractRedisCommands {
 
     AbstractCountMinCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
     }
 
     Uni<Response> _cmsIncrBy(K key, V value, long increment) {
@@ -12,7 +12,7 @@
 public class AbstractCuckooCommands<K, V> extends AbstractRedisCommands {
 
     AbstractCuckooCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
     }
 
     Uni<Response> _cfadd(K key, V value) {
@@ -15,7 +15,6 @@
 import java.util.regex.Pattern;
 
 import io.quarkus.redis.datasource.codecs.Codec;
-import io.quarkus.redis.datasource.codecs.Codecs;
 import io.quarkus.redis.datasource.geo.GeoAddArgs;
 import io.quarkus.redis.datasource.geo.GeoItem;
 import io.quarkus.redis.datasource.geo.GeoPosition;
@@ -37,11 +36,12 @@
 
     private static final Pattern NOISE_REMOVER_PATTERN = Pattern.compile("[^a-zA-Z0-9\\.]");
 
+    @SuppressWarnings("unchecked")
     AbstractGeoCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
         this.typeOfValue = v;
-        this.keyCodec = Codecs.getDefaultCodecFor(k);
-        this.valueCodec = Codecs.getDefaultCodecFor(v);
+        this.keyCodec = (Codec<K>) marshaller.codec(k);
+        this.valueCodec = (Codec<V>) marshaller.codec(v);
     }
 
     Uni<Response> _geoadd(K key, double longitude, double latitude, V member, GeoAddArgs args) {
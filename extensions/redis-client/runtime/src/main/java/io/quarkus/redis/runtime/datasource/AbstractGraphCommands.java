@@ -11,7 +11,7 @@
 public class AbstractGraphCommands<K> extends AbstractRedisCommands {
 
     AbstractGraphCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
     }
 
     Uni<Response> _graphDelete(K key) {
@@ -20,7 +20,7 @@
     protected final Class<F> typeOfField;
 
     AbstractHashCommands(RedisCommandExecutor redis, Class<K> k, Class<F> f, Class<V> v) {
-        super(redis, new Marshaller(k, f, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, f, v));
         this.typeOfField = f;
         this.typeOfValue = v;
     }
@@ -11,7 +11,7 @@
 class AbstractHyperLogLogCommands<K, V> extends AbstractRedisCommands {
 
     AbstractHyperLogLogCommands(RedisCommandExecutor api, Class<K> k, Class<V> v) {
-        super(api, new Marshaller(k, v));
+        super(api, new Marshaller(api.getCodecs(), k, v));
     }
 
     Uni<Response> _pfadd(K key, V... values) {
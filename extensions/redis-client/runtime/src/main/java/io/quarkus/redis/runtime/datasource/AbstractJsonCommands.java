@@ -19,7 +19,7 @@
     private static final JsonSetArgs JSON_SET_DEFAULT = new JsonSetArgs();
 
     public AbstractJsonCommands(RedisCommandExecutor api, Class<K> k) {
-        super(api, new Marshaller(k));
+        super(api, new Marshaller(api.getCodecs(), k));
     }
 
     <T> Uni<Response> _jsonSet(K key, String path, T value) {
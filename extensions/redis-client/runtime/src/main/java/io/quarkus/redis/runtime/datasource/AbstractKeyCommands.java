@@ -27,7 +27,7 @@
     protected final Class<K> typeOfKey;
 
     AbstractKeyCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
         this.typeOfKey = k;
     }
 
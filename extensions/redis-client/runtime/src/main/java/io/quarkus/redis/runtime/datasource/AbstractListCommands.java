@@ -29,7 +29,7 @@
     public static final Command BLMPOP = Command.create("blmpop");
 
     AbstractListCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v), v);
+        super(redis, new Marshaller(redis.getCodecs(), k, v), v);
         this.typeOfKey = k;
         this.typeOfValue = v;
     }
@@ -112,7 +112,7 @@ List<KeyValue<K, V>> decodeListOfKeyValue(Response r) {
             return Collections.emptyList();
         }
         List<KeyValue<K, V>> res = new ArrayList<>();
-        K key = marshaller.decode(typeOfKey, r.get(0).toBytes());
+        K key = marshaller.decode(typeOfKey, r.get(0));
         for (Response item : r.get(1)) {
             if (item == null) {
                 res.add(KeyValue.of(key, null));
@@ -19,7 +19,7 @@
 public class AbstractSearchCommands<K> extends AbstractRedisCommands {
 
     AbstractSearchCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
     }
 
     Uni<Response> _ft_list() {
@@ -19,7 +19,7 @@
     public static final Command SINTERCARD = Command.create("sintercard");
 
     AbstractSetCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v), v);
+        super(redis, new Marshaller(redis.getCodecs(), k, v), v);
         this.typeOfValue = v;
     }
 
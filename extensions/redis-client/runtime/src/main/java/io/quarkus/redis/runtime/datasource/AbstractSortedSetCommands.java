@@ -43,7 +43,7 @@
     public static final Command BZMPOP = Command.create("bzmpop");
 
     AbstractSortedSetCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v), v);
+        super(redis, new Marshaller(redis.getCodecs(), k, v), v);
         this.typeOfValue = v;
         this.typeOfKey = k;
     }
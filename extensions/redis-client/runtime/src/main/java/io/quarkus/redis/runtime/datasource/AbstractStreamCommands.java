@@ -27,7 +27,7 @@
 public class AbstractStreamCommands<K, F, V> extends AbstractRedisCommands {
 
     AbstractStreamCommands(RedisCommandExecutor redis, Class<K> k, Class<F> m, Class<V> v) {
-        super(redis, new Marshaller(k, m, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, m, v));
     }
 
     Uni<Response> _xack(K key, String group, String... ids) {
@@ -21,7 +21,7 @@
     public static final Command LCS = Command.create("lcs");
 
     AbstractStringCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
         this.typeOfValue = v;
     }
 
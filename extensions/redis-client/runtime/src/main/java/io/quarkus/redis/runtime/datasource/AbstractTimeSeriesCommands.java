@@ -24,7 +24,7 @@
 public class AbstractTimeSeriesCommands<K> extends AbstractRedisCommands {
 
     AbstractTimeSeriesCommands(RedisCommandExecutor redis, Class<K> k) {
-        super(redis, new Marshaller(k));
+        super(redis, new Marshaller(redis.getCodecs(), k));
     }
 
     Uni<Response> _tsCreate(K key, CreateArgs args) {
@@ -14,7 +14,7 @@
 public class AbstractTopKCommands<K, V> extends AbstractRedisCommands {
 
     AbstractTopKCommands(RedisCommandExecutor redis, Class<K> k, Class<V> v) {
-        super(redis, new Marshaller(k, v));
+        super(redis, new Marshaller(redis.getCodecs(), k, v));
     }
 
     Uni<Response> _topkAdd(K key, V item) {
@@ -0,0 +1,37 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.quarkus.redis.datasource.batch.BatchResult;
+
+public class BatchResultImpl implements BatchResult {
+
+    private final List<Object> results;
+
+    public BatchResultImpl(List<Object> res) {
+        this.results = new ArrayList<>(res);
+    }
+
+    @Override
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(int index) {
+        return (T) results.get(index);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return results.iterator();
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.redis.runtime.datasource;
 
+import static io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl.toBatchResult;
 import static io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl.toTransactionResult;
 
 import java.time.Duration;
@@ -10,6 +11,7 @@
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.autosuggest.AutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.BatchResult;
 import io.quarkus.redis.datasource.bitmap.BitMapCommands;
 import io.quarkus.redis.datasource.bloom.BloomCommands;
 import io.quarkus.redis.datasource.countmin.CountMinCommands;
@@ -61,10 +63,20 @@ public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this(new ReactiveRedisDataSourceImpl(vertx, redis, connection), timeout);
     }
 
+    @Override
+    public BatchResult withBatch(Consumer<TransactionalRedisDataSource> ds) {
+        ReactiveRedisDataSourceImpl dataSource = reactive.batching();
+        TransactionHolder th = new TransactionHolder();
+        BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
+                new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
+
+        ds.accept(source);
+        return toBatchResult(dataSource.flush().await().atMost(timeout), th);
+    }
+
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.singleConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -86,8 +98,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
     @Override
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.singleConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -118,8 +129,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
     public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSource, I> preTxBlock,
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.singleConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -132,7 +142,7 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             connection.send(cmd).await().atMost(timeout);
 
             I input = preTxBlock
-                    .apply(new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, connection, timeout));
+                    .apply(new BlockingRedisDataSourceImpl(reactive.singleConnection(connection), timeout));
 
             connection.send(Request.cmd(Command.MULTI)).await().atMost(timeout);
 
@@ -159,7 +169,7 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
 
         BlockingRedisDataSourceImpl source = reactive.redis.connect()
-                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout))
+                .map(rc -> new BlockingRedisDataSourceImpl(reactive.singleConnection(rc), timeout))
                 .await().atMost(timeout);
 
         try {
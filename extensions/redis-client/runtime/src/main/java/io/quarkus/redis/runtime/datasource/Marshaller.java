@@ -17,6 +17,7 @@
 
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 
@@ -32,19 +33,45 @@ public class Marshaller {
     }
 
     Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Codec<String> stringCodec;
 
     public Marshaller(Class<?>... hints) {
+        this(List.of(), hints);
+    }
+
+    /**
+     * @param registered the codecs provided by the application, used instead of the default ones for the types they
+     *        handle
+     * @param hints the types to encode and decode
+     */
+    @SuppressWarnings("unchecked")
+    public Marshaller(List<Codec<?>> registered, Class<?>... hints) {
         doesNotContainNull(hints, "hints");
 
         for (Class<?> hint : hints) {
-            codecs.put(hint, Codecs.getDefaultCodecFor(hint));
+            codecs.put(hint, codecFor(registered, hint));
+        }
+        if (!registered.isEmpty()) {
+            for (Class<?> type : DEFAULT_CODECS.keySet()) {
+                codecs.computeIfAbsent(type, t -> codecFor(registered, t));
+            }
+        }
+        this.stringCodec = (Codec<String>) codec(String.class);
+    }
+
+    private static Codec<?> codecFor(List<Codec<?>> registered, Class<?> clazz) {
+        for (Codec<?> codec : registered) {
+            if (codec.canHandle(clazz)) {
+                return codec;
+            }
         }
+        return Codecs.getDefaultCodecFor(clazz);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public byte[] encode(Object o) {
         if (o instanceof String) {
-            return ((String) o).getBytes(StandardCharsets.UTF_8);
+            return stringCodec.encode((String) o);
         }
         if (o == null) {
             return null;
@@ -84,7 +111,17 @@ final <T> T decode(Class<T> clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
-        return decode(clazz, r.toBytes());
+        // Decode from the buffer held by the response, codecs able to read it directly avoid a copy
+        return decode(clazz, r.getDelegate().toBuffer());
+    }
+
+    @SuppressWarnings("unchecked")
+    final <T> T decode(Class<T> clazz, Buffer r) {
+        if (r == null) {
+            return null;
+        }
+        Codec<?> codec = codec(clazz);
+        return (T) codec.decode(r);
     }
 
     @SuppressWarnings("unchecked")
@@ -33,7 +33,7 @@
     private final ReactiveRedisDataSourceImpl datasource;
 
     public ReactivePubSubCommandsImpl(ReactiveRedisDataSourceImpl ds, Class<V> classOfMessage) {
-        super(ds, new Marshaller(classOfMessage));
+        super(ds, new Marshaller(ds.getCodecs(), classOfMessage));
         this.client = ds.redis;
         this.datasource = ds;
         this.classOfMessage = classOfMessage;
@@ -5,14 +5,18 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.BatchResult;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
 import io.quarkus.redis.datasource.cuckoo.ReactiveCuckooCommands;
 import io.quarkus.redis.datasource.geo.ReactiveGeoCommands;
@@ -42,20 +46,47 @@
 import io.vertx.mutiny.redis.client.RedisConnection;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
 public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, RedisCommandExecutor {
 
+    /**
+     * The response of the commands queued in a batch, the transactional command groups check it.
+     */
+    private static final Response QUEUED = Response.newInstance(new io.vertx.redis.client.Response() {
+        @Override
+        public ResponseType type() {
+            return ResponseType.SIMPLE;
+        }
+
+        @Override
+        public String toString() {
+            return "QUEUED";
+        }
+    });
+
     final Redis redis;
     final RedisConnection connection;
+    // when set, the commands are not sent but queued, to be sent with a single batch
+    final List<Request> batch;
     private final Vertx vertx;
+    // the codecs provided by the application, used instead of the default ones
+    private final List<Codec<?>> codecs;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, List.of());
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, List<Codec<?>> codecs) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
+        doesNotContainNull(codecs, "codecs");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.batch = null;
+        this.codecs = List.copyOf(codecs);
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -65,10 +96,37 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.batch = null;
+        this.codecs = List.of();
+    }
+
+    private ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection, List<Request> batch,
+            List<Codec<?>> codecs) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = connection;
+        this.batch = batch;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public List<Codec<?>> getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * @return a data source sending the commands on the given connection, using the same codecs as this data source
+     */
+    ReactiveRedisDataSourceImpl singleConnection(RedisConnection connection) {
+        return new ReactiveRedisDataSourceImpl(vertx, redis, connection, null, codecs);
     }
 
     @Override
     public Uni<Response> execute(Request request) {
+        if (batch != null) {
+            batch.add(request);
+            return Uni.createFrom().item(QUEUED);
+        }
         if (connection != null) {
             return connection.send(request);
         }
@@ -80,7 +138,7 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         nonNull(function, "function");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = singleConnection(connection);
                     TransactionHolder th = new TransactionHolder();
                     return connection.send(Request.cmd(Command.MULTI))
                             .chain(x -> function.apply(new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
@@ -104,7 +162,7 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         doesNotContainNull(keys, "keys");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = singleConnection(connection);
                     List<String> watched = List.of(keys);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, keys) // WATCH keys
@@ -146,10 +204,10 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
 
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = singleConnection(connection);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, watchedKeys) // WATCH keys
-                            .chain(x -> preTxBlock.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection)))// Execute the pre-tx-block
+                            .chain(x -> preTxBlock.apply(singleConnection(connection)))// Execute the pre-tx-block
                             .chain(input -> connection.send(Request.cmd(Command.MULTI))
                                     .chain(x -> tx
                                             .apply(input, new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
@@ -169,6 +227,45 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
                 });
     }
 
+    @Override
+    public Uni<BatchResult> withBatch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
+        nonNull(function, "function");
+        return Uni.createFrom().deferred(() -> {
+            // Each subscription queues its own commands
+            ReactiveRedisDataSourceImpl batchingDS = batching();
+            TransactionHolder th = new TransactionHolder();
+            return function.apply(new ReactiveTransactionalRedisDataSourceImpl(batchingDS, th))
+                    .chain(ignored -> batchingDS.flush())
+                    .map(r -> toBatchResult(r, th));
+        });
+    }
+
+    /**
+     * @return a data source queuing the commands instead of sending them, see {@link #flush()}
+     */
+    ReactiveRedisDataSourceImpl batching() {
+        return new ReactiveRedisDataSourceImpl(vertx, redis, connection, new ArrayList<>(), codecs);
+    }
+
+    /**
+     * Sends the commands queued by this batching data source in a single round trip.
+     */
+    Uni<List<Response>> flush() {
+        if (batch.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        List<Request> requests = new ArrayList<>(batch);
+        batch.clear();
+        if (connection != null) {
+            return connection.batch(requests);
+        }
+        return redis.batch(requests);
+    }
+
+    public static BatchResult toBatchResult(List<Response> responses, TransactionHolder th) {
+        return new BatchResultImpl(th.map(responses));
+    }
+
     public static TransactionResult toTransactionResult(Response response, TransactionHolder th) {
         if (response == null) {
             // Discarded
@@ -220,7 +317,7 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
         }
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = singleConnection(connection);
                     return function.apply(singleConnectionDS)
                             .onTermination().call(connection::close);
                 });
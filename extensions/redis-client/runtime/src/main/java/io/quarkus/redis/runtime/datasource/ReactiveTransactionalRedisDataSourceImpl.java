@@ -41,6 +41,10 @@ public ReactiveTransactionalRedisDataSourceImpl(ReactiveRedisDataSource source,
 
     @Override
     public Uni<Void> discard() {
+        if (reactive.batch != null) {
+            // The commands of a batch are not wrapped in MULTI, there is nothing to discard on the server side
+            return Uni.createFrom().failure(new UnsupportedOperationException("A batch cannot be discarded"));
+        }
         return reactive.execute(Command.DISCARD)
                 .invoke(tx::discard)
                 .replaceWithVoid();
@@ -1,5 +1,8 @@
 package io.quarkus.redis.runtime.datasource;
 
+import java.util.List;
+
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
@@ -12,4 +15,11 @@ default Uni<Response> execute(RedisCommand cmd) {
 
     Uni<Response> execute(Request toRequest);
 
+    /**
+     * @return the codecs provided by the application, used instead of the default ones for the types they handle
+     */
+    default List<Codec<?>> getCodecs() {
+        return List.of();
+    }
+
 }
@@ -0,0 +1,120 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.batch.BatchResult;
+import io.quarkus.redis.datasource.hash.ReactiveTransactionalHashCommands;
+import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
+import io.quarkus.redis.datasource.sortedset.ReactiveTransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class BatchCommandsTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void batchBlocking() {
+        BatchResult result = blocking.withBatch(batch -> {
+            TransactionalHashCommands<String, String, String> hash = batch.hash(String.class);
+            TransactionalValueCommands<String, String> value = batch.value(String.class);
+            TransactionalSortedSetCommands<String, String> sortedSet = batch.sortedSet(String.class);
+            hash.hset("batch-hash", "field", "hello"); // 0 -> true
+            hash.hget("batch-hash", "field"); // 1 -> "hello"
+            value.set("batch-string", "world"); // 2 -> null
+            value.get("batch-string"); // 3 -> "world"
+            sortedSet.zadd("batch-zset", 1.0, "a"); // 4 -> true
+            sortedSet.zscore("batch-zset", "a"); // 5 -> 1.0
+        });
+        assertThat(result.size()).isEqualTo(6);
+        assertThat((Boolean) result.get(0)).isTrue();
+        assertThat((String) result.get(1)).isEqualTo("hello");
+        assertThat((Void) result.get(2)).isNull();
+        assertThat((String) result.get(3)).isEqualTo("world");
+        assertThat((Boolean) result.get(4)).isTrue();
+        assertThat((Double) result.get(5)).isEqualTo(1.0);
+
+        assertThat(blocking.value(String.class).get("batch-string")).isEqualTo("world");
+    }
+
+    @Test
+    public void batchBlockingCannotBeDiscarded() {
+        assertThatThrownBy(() -> blocking.withBatch(batch -> {
+            batch.value(String.class).set("batch-string", "world");
+            batch.discard();
+        })).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(blocking.value(String.class).get("batch-string")).isNull();
+    }
+
+    @Test
+    public void batchBlockingEmpty() {
+        BatchResult result = blocking.withBatch(batch -> {
+        });
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void batchBlockingFailure() {
+        assertThatThrownBy(() -> blocking.withBatch(batch -> {
+            batch.value(String.class).set("batch-string", "world");
+            batch.hash(String.class).hget("batch-string", "field"); // WRONGTYPE
+        })).hasMessageContaining("WRONGTYPE");
+    }
+
+    @Test
+    public void batchReactive() {
+        BatchResult result = reactive.withBatch(batch -> {
+            ReactiveTransactionalHashCommands<String, String, String> hash = batch.hash(String.class);
+            ReactiveTransactionalValueCommands<String, String> value = batch.value(String.class);
+            ReactiveTransactionalSortedSetCommands<String, String> sortedSet = batch.sortedSet(String.class);
+            return Uni.combine().all().unis(
+                    hash.hset("batch-hash", "field", "hello"),
+                    hash.hget("batch-hash", "field"),
+                    value.set("batch-string", "world"),
+                    value.get("batch-string"),
+                    sortedSet.zadd("batch-zset", 1.0, "a"),
+                    sortedSet.zscore("batch-zset", "a")).discardItems();
+        }).await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(6);
+        assertThat((Boolean) result.get(0)).isTrue();
+        assertThat((String) result.get(1)).isEqualTo("hello");
+        assertThat((Void) result.get(2)).isNull();
+        assertThat((String) result.get(3)).isEqualTo("world");
+        assertThat((Boolean) result.get(4)).isTrue();
+        assertThat((Double) result.get(5)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void batchReactiveResubscription() {
+        Uni<BatchResult> uni = reactive.withBatch(batch -> batch.value(String.class).incr("batch-counter"));
+        BatchResult first = uni.await().atMost(Duration.ofSeconds(5));
+        BatchResult second = uni.await().atMost(Duration.ofSeconds(5));
+        assertThat(first.size()).isEqualTo(1);
+        assertThat((Long) first.get(0)).isEqualTo(1L);
+        assertThat(second.size()).isEqualTo(1);
+        assertThat((Long) second.get(0)).isEqualTo(2L);
+    }
+}
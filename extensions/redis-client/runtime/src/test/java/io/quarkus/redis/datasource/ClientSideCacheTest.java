@@ -0,0 +1,155 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.client.ClientSideCachingRedis;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.quarkus.redis.runtime.client.config.ClientSideCacheConfig;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+
+@RequiresRedis6OrHigher
+public class ClientSideCacheTest extends DatasourceTestBase {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger invalidations = new AtomicInteger();
+
+    private ClientSideCachingRedis caching;
+    private RedisDataSource cached;
+    private RedisDataSource plain;
+
+    @BeforeEach
+    void initialize() {
+        ClientSideCacheConfig config = new ClientSideCacheConfig();
+        config.enabled = true;
+        config.maxSize = 100;
+        config.ttl = Duration.ofMinutes(1);
+        config.prefixes = Optional.of(List.of("cached:"));
+
+        String uri = "redis://" + RedisServerExtension.getHost() + ":" + RedisServerExtension.getFirstMappedPort();
+        caching = new ClientSideCachingRedis(
+                io.vertx.redis.client.Redis.createClient(vertx.getDelegate(), uri),
+                io.vertx.redis.client.Redis.createClient(vertx.getDelegate(), uri),
+                "test", new ObservableRedisMetrics() {
+                    @Override
+                    public void report(String name, long durationInNs, boolean succeeded) {
+
+                    }
+
+                    @Override
+                    public void reportCacheAccess(String name, boolean hit) {
+                        (hit ? hits : misses).incrementAndGet();
+                    }
+
+                    @Override
+                    public void reportCacheInvalidation(String name, int count) {
+                        invalidations.addAndGet(count);
+                    }
+                }, config);
+        Redis client = Redis.newInstance(caching);
+        cached = new BlockingRedisDataSourceImpl(vertx, client, RedisAPI.api(client), Duration.ofSeconds(10));
+        plain = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+        await().until(() -> caching.isActive());
+    }
+
+    @AfterEach
+    public void clear() {
+        plain.flushall();
+        caching.close();
+    }
+
+    @Test
+    void readsAreServedFromTheCacheUntilInvalidated() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        plain.value(String.class).set("cached:flag", "on");
+
+        assertThat(values.get("cached:flag")).isEqualTo("on");
+        assertThat(values.get("cached:flag")).isEqualTo("on");
+        assertThat(misses).hasValue(1);
+        assertThat(hits).hasValue(1);
+        assertThat(caching.size()).isEqualTo(1);
+
+        plain.value(String.class).set("cached:flag", "off");
+        await().untilAsserted(() -> assertThat(values.get("cached:flag")).isEqualTo("off"));
+        assertThat(invalidations.get()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void writesAreReadBackImmediately() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        values.set("cached:counter", "1");
+        assertThat(values.get("cached:counter")).isEqualTo("1");
+
+        values.set("cached:counter", "2");
+        assertThat(values.get("cached:counter")).isEqualTo("2");
+        values.incr("cached:counter");
+        assertThat(values.get("cached:counter")).isEqualTo("3");
+        assertThat(hits).hasValue(0);
+    }
+
+    @Test
+    void writtenValuesDoNotInvalidateKeys() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        plain.value(String.class).set("cached:name", "value");
+        assertThat(values.get("cached:name")).isEqualTo("value");
+
+        values.set("cached:other", "cached:name");
+        assertThat(values.get("cached:name")).isEqualTo("value");
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void hashReadsAreCached() {
+        HashCommands<String, String, String> hashes = cached.hash(String.class);
+        plain.hash(String.class).hset("cached:tenant", Map.of("plan", "free", "region", "eu"));
+
+        assertThat(hashes.hgetall("cached:tenant")).containsEntry("plan", "free");
+        assertThat(hashes.hget("cached:tenant", "region")).isEqualTo("eu");
+        assertThat(hashes.hgetall("cached:tenant")).containsEntry("plan", "free");
+        assertThat(hits).hasValue(1);
+        assertThat(caching.size()).isEqualTo(2);
+
+        plain.hash(String.class).hset("cached:tenant", "plan", "premium");
+        await().untilAsserted(() -> assertThat(hashes.hgetall("cached:tenant")).containsEntry("plan", "premium"));
+        assertThat(hashes.hget("cached:tenant", "region")).isEqualTo("eu");
+    }
+
+    @Test
+    void untrackedKeysAreNotCached() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        plain.value(String.class).set(key, "value");
+
+        assertThat(values.get(key)).isEqualTo("value");
+        assertThat(values.get(key)).isEqualTo("value");
+        assertThat(hits).hasValue(0);
+        assertThat(misses).hasValue(0);
+        assertThat(caching.size()).isEqualTo(0);
+    }
+
+    @Test
+    void flushClearsTheCache() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        plain.value(String.class).set("cached:a", "a");
+        assertThat(values.get("cached:a")).isEqualTo("a");
+        assertThat(caching.size()).isEqualTo(1);
+
+        plain.flushall();
+        await().untilAsserted(() -> assertThat(caching.size()).isEqualTo(0));
+        assertThat(values.get("cached:a")).isNull();
+    }
+}
@@ -270,7 +270,7 @@ private static ClassOrInterfaceDeclaration generateAbstractSkeleton(CompilationU
         for (TypeParameter tp : reactiveAPI.getTypeParameters()) {
             cst.addParameter("Class<" + tp.getNameAsString() + ">", tp.getNameAsString().toLowerCase());
         }
-        String statement = "super(redis, new Marshaller(" + reactiveAPI.getTypeParameters().stream()
+        String statement = "super(redis, new Marshaller(redis.getCodecs(), " + reactiveAPI.getTypeParameters().stream()
                 .map(tp -> tp.getNameAsString().toLowerCase()).collect(Collectors.joining(",")) + "));";
         cst.getBody().addStatement(statement);
 
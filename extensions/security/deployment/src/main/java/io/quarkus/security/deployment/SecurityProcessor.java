@@ -74,6 +74,7 @@
 import io.quarkus.security.runtime.SecurityBuildTimeConfig;
 import io.quarkus.security.runtime.SecurityCheckRecorder;
 import io.quarkus.security.runtime.SecurityIdentityAssociation;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.quarkus.security.runtime.SecurityIdentityProxy;
 import io.quarkus.security.runtime.SecurityProviderRecorder;
 import io.quarkus.security.runtime.SecurityProviderUtils;
@@ -757,6 +758,7 @@ FeatureBuildItem feature() {
     void registerAdditionalBeans(BuildProducer<AdditionalBeanBuildItem> beans) {
         beans.produce(AdditionalBeanBuildItem.unremovableOf(SecurityIdentityAssociation.class));
         beans.produce(AdditionalBeanBuildItem.unremovableOf(IdentityProviderManagerCreator.class));
+        beans.produce(AdditionalBeanBuildItem.unremovableOf(SecurityIdentityCache.class));
         beans.produce(AdditionalBeanBuildItem.unremovableOf(SecurityIdentityProxy.class));
         beans.produce(AdditionalBeanBuildItem.unremovableOf(X509IdentityProvider.class));
     }
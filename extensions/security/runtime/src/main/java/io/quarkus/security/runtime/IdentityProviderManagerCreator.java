@@ -25,6 +25,9 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    @Inject
+    SecurityIdentityCache identityCache;
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm() {
@@ -42,6 +45,7 @@ public IdentityProviderManager ipm() {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmentor(i);
         }
+        builder.setIdentityCache(identityCache);
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
@@ -33,6 +33,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final SecurityIdentityCache identityCache;
 
     private final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -74,6 +75,8 @@ public void run() {
         this.providers = builder.providers;
         this.augmenters = builder.augmentors;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache != null && builder.identityCache.isEnabled() ? builder.identityCache
+                : null;
     }
 
     /**
@@ -92,10 +95,16 @@ public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
                 return Uni.createFrom().failure(new IllegalArgumentException(
                         "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             }
+            if (identityCache != null) {
+                SecurityIdentity cached = identityCache.get(request);
+                if (cached != null) {
+                    return handleIdentityFromProvider(0, cached, blockingRequestContext);
+                }
+            }
             if (providers.size() == 1) {
                 return handleSingleProvider(providers.get(0), request);
             }
-            return handleProvider(0, (List) providers, request, blockingRequestContext);
+            return handleProvider(0, typed(providers), request, blockingRequestContext);
         } catch (Throwable t) {
             return Uni.createFrom().failure(t);
         }
@@ -110,6 +119,14 @@ public Throwable get() {
                         return new AuthenticationFailedException();
                     }
                 });
+        if (identityCache != null) {
+            authenticated = authenticated.onItem().invoke(new Consumer<SecurityIdentity>() {
+                @Override
+                public void accept(SecurityIdentity securityIdentity) {
+                    identityCache.put(request, securityIdentity);
+                }
+            });
+        }
         if (!augmenters.isEmpty()) {
             authenticated = authenticated
                     .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
@@ -137,7 +154,21 @@ public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
-        return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).await().indefinitely();
+        if (identityCache != null) {
+            SecurityIdentity cached = identityCache.get(request);
+            if (cached != null) {
+                return handleIdentityFromProvider(0, cached, blockingRequestContext).await().indefinitely();
+            }
+        }
+        return handleProvider(0, typed(providers), request, blockingRequestContext).await().indefinitely();
+    }
+
+    /**
+     * The providers are registered for the class of the requests they handle
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends AuthenticationRequest> List<IdentityProvider<T>> typed(List<IdentityProvider> providers) {
+        return (List<IdentityProvider<T>>) (List<?>) providers;
     }
 
     private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProvider(int pos,
@@ -153,6 +184,9 @@ private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProvider(i
                     @Override
                     public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
                         if (securityIdentity != null) {
+                            if (identityCache != null) {
+                                identityCache.put(request, securityIdentity);
+                            }
                             return Uni.createFrom().item(securityIdentity);
                         }
                         return handleProvider(pos + 1, providers, request, context);
@@ -200,6 +234,7 @@ public static class Builder {
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private Executor blockingExecutor;
+        private SecurityIdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -236,6 +271,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param identityCache The cache of identities created from username and password credentials
+         * @return this builder
+         */
+        public Builder setIdentityCache(SecurityIdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
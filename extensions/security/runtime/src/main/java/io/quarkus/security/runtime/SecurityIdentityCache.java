@@ -0,0 +1,186 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * A short-lived cache of identities created from username and password credentials.
+ * <p>
+ * Identity providers that verify passwords, such as the JDBC, JPA or properties file based ones, typically run
+ * a database query and a deliberately slow password hash verification for every request. When the cache is enabled
+ * with {@code quarkus.security.identity-cache.enabled=true} the {@link io.quarkus.security.identity.IdentityProviderManager}
+ * stores the identity created by the identity provider keyed by a salted digest of the credentials, so that
+ * repeated requests carrying the same credentials skip the identity providers until the entry expires.
+ * The cached identity is not augmented, the {@link io.quarkus.security.identity.SecurityIdentityAugmentor}s run for
+ * every request. When the cache is full, the oldest identities are evicted.
+ * <p>
+ * Failed authentication attempts are never cached. Applications which modify users, passwords or roles should call
+ * {@link #invalidate(String)} or {@link #invalidateAll()} so that the change is visible immediately.
+ */
+@Singleton
+public class SecurityIdentityCache {
+
+    private final boolean enabled;
+    private final long timeToLiveNanos;
+    private final int maxSize;
+    private final byte[] salt;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // the entries in insertion order, which is also their expiration order
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+
+    @Inject
+    public SecurityIdentityCache(SecurityRuntimeConfig config) {
+        this(config.identityCache.enabled, config.identityCache.timeToLive, config.identityCache.maxSize);
+    }
+
+    SecurityIdentityCache(boolean enabled, Duration timeToLive, int maxSize) {
+        this.enabled = enabled;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maxSize = maxSize;
+        this.salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * @return true if identities are cached
+     */
+    public boolean isEnabled() {
+        return enabled && timeToLiveNanos > 0 && maxSize > 0;
+    }
+
+    /**
+     * Returns the cached identity for the given request.
+     *
+     * @param request the authentication request
+     * @return the cached identity or null if there is no valid cached identity
+     */
+    public SecurityIdentity get(AuthenticationRequest request) {
+        if (!isEnabled() || !(request instanceof UsernamePasswordAuthenticationRequest)) {
+            return null;
+        }
+        String key = key((UsernamePasswordAuthenticationRequest) request);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.identity;
+    }
+
+    /**
+     * Caches the identity created for the given request.
+     *
+     * @param request the authentication request
+     * @param identity the authenticated identity
+     */
+    public void put(AuthenticationRequest request, SecurityIdentity identity) {
+        if (!isEnabled() || identity == null || identity.isAnonymous()
+                || !(request instanceof UsernamePasswordAuthenticationRequest)) {
+            return;
+        }
+        UsernamePasswordAuthenticationRequest usernamePasswordRequest = (UsernamePasswordAuthenticationRequest) request;
+        long now = System.nanoTime();
+        Entry entry = new Entry(key(usernamePasswordRequest), usernamePasswordRequest.getUsername(), identity,
+                now + timeToLiveNanos);
+        entries.put(entry.key, entry);
+        order.add(entry);
+        evict(now);
+    }
+
+    /**
+     * Removes all cached identities created for the given user name.
+     *
+     * @param username the user name used in the authentication request
+     */
+    public void invalidate(String username) {
+        entries.values().removeIf(entry -> entry.username.equals(username));
+    }
+
+    /**
+     * Removes all cached identities.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the oldest entries while they are expired or the cache is full, as well as the replaced or invalidated
+     * entries queued before them.
+     */
+    private void evict(long now) {
+        for (Entry oldest = order.peek(); oldest != null; oldest = order.peek()) {
+            boolean removed = entries.get(oldest.key) != oldest;
+            if (!removed && !oldest.isExpired(now) && entries.size() <= maxSize) {
+                return;
+            }
+            if (order.remove(oldest) && !removed) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private String key(UsernamePasswordAuthenticationRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(salt);
+        digest.update(request.getUsername().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(request.getPassword().getPassword()));
+        byte[] passwordBytes = new byte[password.remaining()];
+        password.get(passwordBytes);
+        digest.update(passwordBytes);
+        Arrays.fill(passwordBytes, (byte) 0);
+        if (password.hasArray()) {
+            Arrays.fill(password.array(), (byte) 0);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static final class Entry {
+
+        final String key;
+        final String username;
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(String key, String username, SecurityIdentity identity, long expiresAt) {
+            this.key = key;
+            this.username = username;
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
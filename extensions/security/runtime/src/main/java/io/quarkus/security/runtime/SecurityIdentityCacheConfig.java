@@ -0,0 +1,34 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class SecurityIdentityCacheConfig {
+
+    /**
+     * If enabled, identities created by the identity providers from username and password credentials, such as those
+     * sent with the Basic or form authentication, are cached for a short period of time.
+     * Repeated requests with the same credentials are then authenticated without querying the identity store
+     * and verifying the password hash again.
+     * <p>
+     * Use {@link SecurityIdentityCache} to invalidate the cached identities when user details change.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * How long a cached identity remains valid.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration timeToLive;
+
+    /**
+     * The maximum number of cached identities. When reached, the oldest identities are evicted.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+}
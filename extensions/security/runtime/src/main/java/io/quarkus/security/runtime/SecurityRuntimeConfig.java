@@ -0,0 +1,19 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Security runtime configuration.
+ */
+@ConfigRoot(name = "security", phase = ConfigPhase.RUN_TIME)
+public class SecurityRuntimeConfig {
+
+    /**
+     * Cache of identities created from username and password credentials.
+     */
+    @ConfigItem
+    public SecurityIdentityCacheConfig identityCache;
+
+}
@@ -0,0 +1,151 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+public class SecurityIdentityCacheTest {
+
+    @Test
+    public void testCachedIdentity() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 10);
+        SecurityIdentity alice = identity("alice");
+        cache.put(request("alice", "alice-password"), alice);
+
+        assertSame(alice, cache.get(request("alice", "alice-password")));
+        assertNull(cache.get(request("alice", "wrong-password")));
+        assertNull(cache.get(request("bob", "alice-password")));
+    }
+
+    @Test
+    public void testDisabled() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(false, Duration.ofMinutes(1), 10);
+        assertFalse(cache.isEnabled());
+        cache.put(request("alice", "alice-password"), identity("alice"));
+        assertNull(cache.get(request("alice", "alice-password")));
+    }
+
+    @Test
+    public void testExpiredIdentity() throws Exception {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMillis(1), 10);
+        cache.put(request("alice", "alice-password"), identity("alice"));
+        Thread.sleep(10);
+        assertNull(cache.get(request("alice", "alice-password")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMaxSize() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 1);
+        cache.put(request("alice", "alice-password"), identity("alice"));
+        cache.put(request("bob", "bob-password"), identity("bob"));
+        assertEquals(1, cache.size());
+        assertNull(cache.get(request("alice", "alice-password")));
+        assertEquals("bob", cache.get(request("bob", "bob-password")).getPrincipal().getName());
+    }
+
+    @Test
+    public void testEvictsOldestIdentity() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 2);
+        cache.put(request("alice", "alice-password"), identity("alice"));
+        cache.put(request("bob", "bob-password"), identity("bob"));
+        cache.invalidate("alice");
+        cache.put(request("bob", "bob-password"), identity("bob"));
+        cache.put(request("carol", "carol-password"), identity("carol"));
+        cache.put(request("dave", "dave-password"), identity("dave"));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(request("bob", "bob-password")));
+        assertEquals("carol", cache.get(request("carol", "carol-password")).getPrincipal().getName());
+        assertEquals("dave", cache.get(request("dave", "dave-password")).getPrincipal().getName());
+    }
+
+    @Test
+    public void testInvalidate() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 10);
+        cache.put(request("alice", "alice-password"), identity("alice"));
+        cache.put(request("bob", "bob-password"), identity("bob"));
+
+        cache.invalidate("alice");
+        assertNull(cache.get(request("alice", "alice-password")));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertNull(cache.get(request("bob", "bob-password")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testOtherRequestsNotCached() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 10);
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential("token", "bearer"));
+        cache.put(request, identity("alice"));
+        assertNull(cache.get(request));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCachedIdentityAugmented() {
+        AtomicInteger authentications = new AtomicInteger();
+        AtomicInteger augmentations = new AtomicInteger();
+        QuarkusIdentityProviderManagerImpl manager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .addProvider(new IdentityProvider<UsernamePasswordAuthenticationRequest>() {
+                    @Override
+                    public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+                        return UsernamePasswordAuthenticationRequest.class;
+                    }
+
+                    @Override
+                    public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                            AuthenticationRequestContext context) {
+                        authentications.incrementAndGet();
+                        return Uni.createFrom().item(identity(request.getUsername()));
+                    }
+                })
+                .addSecurityIdentityAugmentor(new SecurityIdentityAugmentor() {
+                    @Override
+                    public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+                        return Uni.createFrom().item(QuarkusSecurityIdentity.builder(identity)
+                                .addRole("augmented-" + augmentations.incrementAndGet()).build());
+                    }
+                })
+                .setBlockingExecutor(Runnable::run)
+                .setIdentityCache(new SecurityIdentityCache(true, Duration.ofMinutes(1), 10))
+                .build();
+
+        SecurityIdentity first = manager.authenticateBlocking(request("alice", "alice-password"));
+        SecurityIdentity second = manager.authenticate(request("alice", "alice-password")).await().indefinitely();
+
+        assertEquals(1, authentications.get());
+        assertEquals(2, augmentations.get());
+        assertTrue(first.hasRole("augmented-1"));
+        assertTrue(second.hasRole("augmented-2"));
+        assertFalse(second.hasRole("augmented-1"));
+    }
+
+    private static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    private static SecurityIdentity identity(String username) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(username)).addRole("user").build();
+    }
+}
@@ -30,6 +30,12 @@ public static String generateSerializer(BuildProducer<GeneratedClassBuildItem> g
         String generatedName = targetPackage + out;
         ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(ObjectMapperSerializer.class).build();
+        MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+        MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperSerializer.class, Class.class);
+        constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                constructor.loadClassFromTCCL(type.name().toString()));
+        constructor.returnValue(null);
+        constructor.close();
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
@@ -0,0 +1,129 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the processing states persisted during an interval, and persists them with a single call to the delegate
+ * store.
+ * <p>
+ * Only the latest state of each partition is persisted. The persistence of a state completes when the batch containing
+ * it is persisted. The pending states are persisted before fetching the states, and when the store is closed.
+ * <p>
+ * The batches are persisted on the context persisting the states, as the delegate stores may require it.
+ */
+class BatchingStateStore implements CheckpointStateStore {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchingStateStore.class);
+
+    static final String BATCH_INTERVAL = "batch-interval.ms";
+
+    private final CheckpointStateStore delegate;
+    private final Vertx vertx;
+    private final long interval;
+
+    // guarded by this
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    private CompletableFuture<Void> pendingResult;
+    private long timerId = -1;
+    private Context context;
+
+    BatchingStateStore(CheckpointStateStore delegate, Vertx vertx, long interval) {
+        this.delegate = delegate;
+        this.vertx = vertx;
+        this.interval = interval;
+    }
+
+    /**
+     * Wraps the given store if the {@code checkpoint.<store>.batch-interval.ms} attribute of the channel is set.
+     *
+     * @param config the configuration of the channel
+     * @param storeName the name of the store
+     * @param vertx the Vert.x instance used to schedule the persistence of the batches
+     * @param store the store persisting the batches
+     * @return the store to use for the channel
+     */
+    static CheckpointStateStore wrap(KafkaConnectorIncomingConfiguration config, String storeName, Vertx vertx,
+            CheckpointStateStore store) {
+        long interval = config.config().getOptionalValue(KafkaCommitHandler.Strategy.CHECKPOINT + "." + storeName + "."
+                + BATCH_INTERVAL, Long.class)
+                .orElse(0L);
+        return interval > 0 ? new BatchingStateStore(store, vertx, interval) : store;
+    }
+
+    @Override
+    public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+        // The failures of the pending states are reported to their callers
+        return flush().onFailure().recoverWithNull()
+                .chain(() -> delegate.fetchProcessingState(partitions));
+    }
+
+    @Override
+    public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        if (state.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            pending.putAll(state);
+            if (context == null) {
+                context = Vertx.currentContext();
+            }
+            if (pendingResult == null) {
+                pendingResult = new CompletableFuture<>();
+                timerId = vertx.setTimer(interval, id -> flush().subscribe().with(x -> {
+                }, f -> LOGGER.warnf(f, "Unable to persist the processing state of the partitions")));
+            }
+            result = pendingResult;
+        }
+        return Uni.createFrom().completionStage(result);
+    }
+
+    Uni<Void> flush() {
+        Map<TopicPartition, ProcessingState<?>> states;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            if (pendingResult == null) {
+                return Uni.createFrom().voidItem();
+            }
+            states = pending;
+            result = pendingResult;
+            pending = new HashMap<>();
+            pendingResult = null;
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        return delegate.persistProcessingState(states)
+                .invoke(() -> result.complete(null))
+                .onFailure().invoke(result::completeExceptionally);
+    }
+
+    @Override
+    public void close() {
+        Uni<Void> flush = Uni.createFrom().deferred(this::flush);
+        Context ctx;
+        synchronized (this) {
+            ctx = context;
+        }
+        if (ctx != null) {
+            // close() may be called from any thread, the final batch is persisted on the context of the store
+            flush = flush.runSubscriptionOn(ctx::runOnContext);
+        }
+        flush.onTermination().invoke(delegate::close)
+                .subscribe().with(x -> {
+                }, f -> LOGGER.warnf(f, "Unable to persist the processing state of the partitions on close"));
+    }
+}
@@ -1,6 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -62,7 +62,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return BatchingStateStore.wrap(config, HIBERNATE_ORM_STATE_STORE, vertx,
+                    new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType));
         }
     }
 
@@ -73,16 +74,10 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                     .map(tp -> new CheckpointEntityId(consumerGroupId, tp))
                     .toArray(Object[]::new);
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(emitter -> {
-                List<CheckpointEntity> fetched = new ArrayList<>();
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
-                        if (entity != null) {
-                            fetched.add(entity);
-                        }
-                    }
+                    List<? extends CheckpointEntity> fetched = session.byMultipleIds(stateType).multiLoad(ids);
                     Map<TopicPartition, ProcessingState<?>> stateMap = fetched.stream()
                             .filter(e -> e != null && CheckpointEntity.topicPartition(e) != null)
                             .collect(Collectors.toMap(CheckpointEntity::topicPartition,
@@ -104,15 +99,23 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            CheckpointEntity[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .toArray(CheckpointEntity[]::new);
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Object[] ids = Arrays.stream(entities).map(CheckpointEntity::getId).toArray();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
+                    // Loads the existing entities with a single query, so that they are not selected one by one when
+                    // merged, and sends their updates in a single batch
+                    session.setJdbcBatchSize(entities.length);
                     tx = session.beginTransaction();
+                    session.byMultipleIds(stateType).multiLoad(ids);
                     for (Object entity : entities) {
                         session.merge(entity);
                     }
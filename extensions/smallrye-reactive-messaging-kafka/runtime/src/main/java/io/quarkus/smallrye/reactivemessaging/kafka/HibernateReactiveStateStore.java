@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -51,7 +52,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             if (!CheckpointEntity.class.isAssignableFrom(stateType)) {
                 throw new IllegalArgumentException("State type needs to extend `CheckpointEntity`");
             }
-            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return BatchingStateStore.wrap(config, HIBERNATE_REACTIVE_STATE_STORE, vertx,
+                    new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType));
         }
     }
 
@@ -78,12 +80,20 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            CheckpointEntity[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
-            return sf.withTransaction(s -> s.mergeAll(entities));
+                    .toArray(CheckpointEntity[]::new);
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Object[] ids = Arrays.stream(entities).map(CheckpointEntity::getId).toArray();
+            // Loads the existing entities with a single query, so that they are not selected one by one when merged,
+            // and sends their updates in a single batch
+            return sf.withTransaction(s -> s.setBatchSize(entities.length)
+                    .find(stateType, ids)
+                    .chain(() -> s.mergeAll((Object[]) entities)));
         }).runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
     }
 
@@ -74,7 +74,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return BatchingStateStore.wrap(config, REDIS_STATE_STORE, vertx,
+                    new RedisStateStore(rds, consumerGroupId, stateCodec));
         }
     }
 
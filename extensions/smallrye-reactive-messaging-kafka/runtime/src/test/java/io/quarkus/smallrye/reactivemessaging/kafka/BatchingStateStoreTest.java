@@ -0,0 +1,128 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+public class BatchingStateStoreTest {
+
+    private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+    private Vertx vertx;
+    private RecordingStateStore delegate;
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+        delegate = new RecordingStateStore();
+    }
+
+    @AfterEach
+    void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testCoalescing() {
+        BatchingStateStore store = new BatchingStateStore(delegate, vertx, Duration.ofHours(1).toMillis());
+        Uni<Void> first = store.persistProcessingState(Map.of(TP0, new ProcessingState<>("a", 1)));
+        Uni<Void> second = store.persistProcessingState(Map.of(TP0, new ProcessingState<>("b", 2)));
+        Uni<Void> third = store.persistProcessingState(Map.of(TP1, new ProcessingState<>("c", 3)));
+        assertThat(delegate.persisted).isEmpty();
+
+        store.flush().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(delegate.persisted).hasSize(1);
+        assertThat(delegate.persisted.get(0))
+                .containsEntry(TP0, new ProcessingState<>("b", 2))
+                .containsEntry(TP1, new ProcessingState<>("c", 3));
+        first.await().atMost(Duration.ofSeconds(5));
+        second.await().atMost(Duration.ofSeconds(5));
+        third.await().atMost(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testFlushOnInterval() {
+        BatchingStateStore store = new BatchingStateStore(delegate, vertx, 50);
+        Uni<Void> result = store.persistProcessingState(Map.of(TP0, new ProcessingState<>("a", 1)));
+
+        result.await().atMost(Duration.ofSeconds(5));
+
+        assertThat(delegate.persisted).hasSize(1);
+        assertThat(delegate.persisted.get(0)).containsEntry(TP0, new ProcessingState<>("a", 1));
+    }
+
+    @Test
+    void testFlushOnClose() {
+        BatchingStateStore store = new BatchingStateStore(delegate, vertx, Duration.ofHours(1).toMillis());
+        Context context = vertx.getOrCreateContext();
+        // The states are persisted on a Vert.x context, and the store is closed from another thread
+        AtomicBoolean queued = new AtomicBoolean();
+        context.runOnContext(() -> {
+            store.persistProcessingState(Map.of(TP0, new ProcessingState<>("a", 1))).subscribe().with(x -> {
+            });
+            queued.set(true);
+        });
+        await().untilTrue(queued);
+
+        store.close();
+
+        await().atMost(Duration.ofSeconds(5)).until(delegate.closed::get);
+        assertThat(delegate.persisted).hasSize(1);
+        assertThat(delegate.persisted.get(0)).containsEntry(TP0, new ProcessingState<>("a", 1));
+        assertThat(delegate.contexts).containsExactly(context.getDelegate());
+    }
+
+    @Test
+    void testFetchFlushesPendingStates() {
+        BatchingStateStore store = new BatchingStateStore(delegate, vertx, Duration.ofHours(1).toMillis());
+        store.persistProcessingState(Map.of(TP0, new ProcessingState<>("a", 1)));
+
+        store.fetchProcessingState(List.of(TP0)).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(delegate.persisted).hasSize(1);
+    }
+
+    static class RecordingStateStore implements CheckpointStateStore {
+
+        final List<Map<TopicPartition, ProcessingState<?>>> persisted = new CopyOnWriteArrayList<>();
+        final List<io.vertx.core.Context> contexts = new CopyOnWriteArrayList<>();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+            return Uni.createFrom().item(Map.of());
+        }
+
+        @Override
+        public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+            persisted.add(state);
+            Context context = Vertx.currentContext();
+            contexts.add(context == null ? null : context.getDelegate());
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources having precompressed variants, with the entity tag derived from their content.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> entityTags;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> entityTags) {
+        this.entityTags = entityTags;
+    }
+
+    /**
+     * @return the entity tags, by path of the uncompressed resource relative to {@code META-INF/resources}
+     */
+    public Map<String, String> getEntityTags() {
+        return entityTags;
+    }
+}
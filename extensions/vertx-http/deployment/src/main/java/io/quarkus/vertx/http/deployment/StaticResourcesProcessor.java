@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
@@ -9,12 +10,25 @@
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.handler.codec.compression.Brotli;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Capabilities;
@@ -23,19 +37,24 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger log = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
@@ -53,13 +72,116 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(Capabilities capabilities, HttpBuildTimeConfig httpBuildTimeConfig,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<AdditionalStaticResourceBuildItem> additionalStaticResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws Exception {
+        if (capabilities.isPresent(Capability.SERVLET) || !httpBuildTimeConfig.precompressStaticResources
+                || httpBuildTimeConfig.compressMediaTypes.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
+        boolean brotli = Brotli.isAvailable();
+        if (!brotli) {
+            log.debugf(Brotli.cause(), "Brotli is not available, the static resources are only precompressed with gzip");
+        }
+        Set<String> paths = new HashSet<>();
+        Map<String, byte[]> contents = new HashMap<>();
+        visitClasspathResources(applicationArchivesBuildItem, (path, file) -> {
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            // The archives are only open while visited
+            if (paths.add(path) && contentType != null && compressMediaTypes.contains(contentType)) {
+                try {
+                    contents.put(path, Files.readAllBytes(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        Map<String, String> entityTags = new HashMap<>();
+        for (Map.Entry<String, byte[]> resource : contents.entrySet()) {
+            String path = resource.getKey();
+            byte[] content = resource.getValue();
+            boolean precompressed = paths.contains(path + ".gz") || paths.contains(path + ".br");
+            if (!paths.contains(path + ".gz")) {
+                precompressed |= addVariant(path + ".gz", content, gzip(content), generatedResources,
+                        additionalStaticResources);
+            }
+            if (brotli && !paths.contains(path + ".br")) {
+                precompressed |= addVariant(path + ".br", content, brotli(content), generatedResources,
+                        additionalStaticResources);
+            }
+            if (precompressed) {
+                entityTags.put(path, entityTag(content));
+            }
+        }
+        if (!entityTags.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(entityTags));
+        }
+    }
+
+    /**
+     * Adds the compressed variant of a resource, unless it is not smaller than the resource.
+     *
+     * @return whether the variant was added
+     */
+    private static boolean addVariant(String path, byte[] content, byte[] compressed,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<AdditionalStaticResourceBuildItem> additionalStaticResources) {
+        if (compressed.length >= content.length) {
+            return false;
+        }
+        generatedResources.produce(new GeneratedResourceBuildItem(StaticResourcesRecorder.META_INF_RESOURCES + path,
+                compressed));
+        additionalStaticResources.produce(new AdditionalStaticResourceBuildItem(path, false));
+        return true;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) throws IOException {
+        return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+    }
+
+    /**
+     * @return a strong entity tag, derived from the content hash
+     */
+    private static String entityTag(byte[] content) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 27);
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, String> entityTags = precompressedStaticResources.isPresent()
+                    ? precompressedStaticResources.get().getEntityTags()
+                    : Map.of();
+            Set<String> files = new HashSet<>();
+            for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+                if (!entry.isDirectory()) {
+                    files.add(entry.getPath());
+                }
+            }
+            defaultRoutes.produce(
+                    new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), files, entityTags)));
         }
     }
 
@@ -91,24 +213,32 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
     private Set<StaticResourcesBuildItem.Entry> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem)
             throws Exception {
         Set<StaticResourcesBuildItem.Entry> knownPaths = new HashSet<>();
+        visitClasspathResources(applicationArchivesBuildItem,
+                (file, p) -> knownPaths.add(new StaticResourcesBuildItem.Entry(file, false)));
+        return knownPaths;
+    }
 
+    /**
+     * Visits all static file resources that are available from classpath, with their path relative to
+     * {@code META-INF/resources}.
+     */
+    private static void visitClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            BiConsumer<String, Path> visitor) throws Exception {
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             i.accept(tree -> {
                 Path resource = tree.getPath(StaticResourcesRecorder.META_INF_RESOURCES);
                 if (resource != null && Files.exists(resource)) {
-                    collectKnownPaths(resource, knownPaths);
+                    visitResources(resource, visitor);
                 }
             });
         }
 
         ClassPathUtils.consumeAsPaths(StaticResourcesRecorder.META_INF_RESOURCES, resource -> {
-            collectKnownPaths(resource, knownPaths);
+            visitResources(resource, visitor);
         });
-
-        return knownPaths;
     }
 
-    private void collectKnownPaths(Path resource, Set<StaticResourcesBuildItem.Entry> knownPaths) {
+    private static void visitResources(Path resource, BiConsumer<String, Path> visitor) {
         try {
             Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
                 @Override
@@ -120,7 +250,7 @@ public FileVisitResult visitFile(Path p, BasicFileAttributes attrs)
                     }
                     // Windows has a backslash
                     file = file.replace('\\', '/');
-                    knownPaths.add(new StaticResourcesBuildItem.Entry(file, false));
+                    visitor.accept(file, p);
                     return FileVisitResult.CONTINUE;
                 }
             });
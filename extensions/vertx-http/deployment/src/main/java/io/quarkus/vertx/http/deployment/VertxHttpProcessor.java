@@ -39,6 +39,8 @@
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
@@ -163,6 +165,15 @@ public void kubernetes(BuildProducer<KubernetesPortBuildItem> kubernetesPorts) {
         kubernetesPorts.produce(new KubernetesPortBuildItem(port, "http"));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerCompressionMetrics(VertxHttpRecorder recorder, HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent() && httpBuildTimeConfig.enableCompression) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCompressionMetrics()));
+        }
+    }
+
     @BuildStep
     void notFoundRoutes(
             List<RouteBuildItem> routes,
@@ -0,0 +1,70 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionThresholdTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-threshold=1K\n";
+
+    static String longString = "Hello World;".repeat(1000);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoute.class));
+
+    @Test
+    public void test() {
+        RestAssured.given().get("/large").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+
+        RestAssured.given().get("/small").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Matchers.equalTo("5"))
+                .body(Matchers.equalTo("Hello"));
+
+        RestAssured.given().get("/chunked").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo("Hello"));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/large").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(longString);
+            });
+            router.route("/small").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end("Hello");
+            });
+            router.route("/chunked").handler(rc -> {
+                // The size of a chunked response is unknown when its headers are written
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().setChunked(true).write("Hello");
+                rc.response().end();
+            });
+        }
+
+    }
+
+}
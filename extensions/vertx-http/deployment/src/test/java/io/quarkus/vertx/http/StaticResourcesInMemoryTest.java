@@ -0,0 +1,69 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesInMemoryTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.in-memory=true\n"
+                            + "quarkus.http.static-resources.in-memory-max-file-size=200\n"),
+                            "application.properties")
+                    .add(new StringAsset("small"), "META-INF/resources/small.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/large.html"));
+
+    @Test
+    public void shouldServeFromMemory() {
+        String etag = RestAssured.when().get("/small.txt")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", startsWith("text/plain"))
+                .header("Content-Length", "5")
+                .header("ETag", startsWith("\""))
+                .header("Cache-Control", containsString("max-age="))
+                .body(containsString("small"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .when().get("/small.txt")
+                .then()
+                .statusCode(304);
+
+        RestAssured.when().head("/small.txt")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", "5");
+    }
+
+    @Test
+    public void shouldServeLargeResourcesFromFileSystem() {
+        RestAssured.when().get("/large.html")
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .body(containsString("This is the title of the webpage!"));
+        RestAssured.when().get("/")
+                .then()
+                .statusCode(200)
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeRangeRequestsFromFileSystem() {
+        RestAssured.given().header("Range", "bytes=0-1")
+                .when().get("/small.txt")
+                .then()
+                .statusCode(206)
+                .body(containsString("sm"));
+    }
+}
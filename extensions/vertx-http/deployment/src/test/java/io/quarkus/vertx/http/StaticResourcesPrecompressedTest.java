@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressedTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.precompress=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServeGzipVariant() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", startsWith("text/html"))
+                .header("Vary", "accept-encoding")
+                .header("ETag", endsWith("-gzip\""))
+                .header("Cache-Control", containsString("max-age="))
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    public void shouldServeGzipVariantOfIndexPage() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIdentityWhenGzipIsNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "accept-encoding")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotPrecompressOtherMediaTypes() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+        RestAssured.when().get("/image.svg.gz")
+                .then()
+                .statusCode(404);
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class WriteCoalescingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("quarkus.http.coalesce-writes=true\n"), "application.properties")
+                    .addClasses(BeanRegisteringRoute.class));
+
+    @Test
+    public void shouldSendTheResponses() {
+        for (int i = 0; i < 10; i++) {
+            RestAssured.given().get("/event-loop").then().statusCode(200).body(is("event-loop"));
+            RestAssured.given().get("/worker").then().statusCode(200).body(is("worker"));
+            RestAssured.given().get("/chunked").then().statusCode(200).body(is("chunked"));
+        }
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/event-loop").handler(rc -> rc.response().end("event-loop"));
+            router.route("/worker").blockingHandler(rc -> rc.response().end("worker"));
+            router.route("/chunked").handler(rc -> {
+                rc.response().setChunked(true).write("chun");
+                rc.response().end("ked");
+            });
+        }
+
+    }
+
+}
@@ -9,6 +9,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -97,4 +98,25 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * The minimum size of a response body to be compressed. The smaller responses are sent uncompressed, as compressing
+     * them costs more than it saves.
+     * <p>
+     * The size of a response is known when it is written at once or has a {@code Content-Length} header, the other
+     * responses are compressed regardless of this threshold. It does not apply to HTTP/2.
+     */
+    @ConfigItem
+    public Optional<MemorySize> compressionThreshold;
+
+    /**
+     * Whether the static resources from {@code META-INF/resources} matching the {@code compress-media-types} are
+     * compressed at build time. A gzip variant is added next to each resource, and a Brotli one when the Brotli native
+     * library is available. The variants shipped with the application, such as {@code app.js.br}, are used as well.
+     * <p>
+     * The variant supported by the client is then served as is, with a strong {@code ETag} derived from the content of
+     * the resource, so these resources are not compressed on each request.
+     */
+    @ConfigItem(name = "static-resources.precompress")
+    public boolean precompressStaticResources;
 }
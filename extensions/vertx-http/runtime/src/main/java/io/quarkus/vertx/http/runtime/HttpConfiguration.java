@@ -167,6 +167,15 @@ public class HttpConfiguration {
     @ConfigItem
     public boolean tcpCork;
 
+    /**
+     * Whether the writes of the responses are coalesced. The flushes are deferred until the end of the requests read
+     * from a connection at once, or until the event loop completes its current tasks, so that the responses of
+     * pipelined requests and the responses completed by worker threads in the meantime are sent with fewer system
+     * calls, at the cost of a slightly higher latency for a single response.
+     */
+    @ConfigItem
+    public boolean coalesceWrites;
+
     /**
      * Enable tcp fast open (linux native transport only)
      */
@@ -0,0 +1,145 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+
+/**
+ * Applies the compression threshold to the HTTP/1.x responses and measures the compression.
+ * <p>
+ * The compressor of a connection is created by Vert.x, which looks it up by its class, so it is not replaced. Instead,
+ * a handler is added on each side of it: the one written to first keeps the responses smaller than the threshold
+ * uncompressed with the {@code Content-Encoding: identity} header, that the compressor removes, and the one written to
+ * next counts the compressed bytes.
+ */
+final class HttpResponseCompression {
+
+    static final String POLICY_HANDLER = "quarkus-compression-policy";
+    static final String METER_HANDLER = "quarkus-compression-meter";
+    private static final String DEFLATER_HANDLER = "deflater";
+
+    /** The number of bytes of the response bodies before the compression */
+    static final LongAdder UNCOMPRESSED_BYTES = new LongAdder();
+    /** The number of bytes of the response bodies after the compression */
+    static final LongAdder COMPRESSED_BYTES = new LongAdder();
+    /** The time spent writing the compressed response bodies through the compressor, in nanoseconds */
+    static final LongAdder COMPRESSION_TIME = new LongAdder();
+
+    private final long threshold;
+
+    /**
+     * @param threshold the minimum size of a response body to be compressed, {@code 0} to compress all the responses
+     */
+    HttpResponseCompression(long threshold) {
+        this.threshold = threshold;
+    }
+
+    void install(ChannelPipeline pipeline) {
+        if (pipeline.get(DEFLATER_HANDLER) == null) {
+            // HTTP/2 and compression disabled by a customizer
+            return;
+        }
+        Meter meter = new Meter();
+        pipeline.addBefore(DEFLATER_HANDLER, METER_HANDLER, meter);
+        pipeline.addAfter(DEFLATER_HANDLER, POLICY_HANDLER, new Policy(threshold, meter));
+    }
+
+    static long sizeOf(Object msg) {
+        if (msg instanceof ByteBufHolder) {
+            return ((ByteBufHolder) msg).content().readableBytes();
+        }
+        if (msg instanceof ByteBuf) {
+            return ((ByteBuf) msg).readableBytes();
+        }
+        return 0;
+    }
+
+    /**
+     * Written to before the compressor.
+     */
+    static final class Policy extends ChannelOutboundHandlerAdapter {
+
+        private final long threshold;
+        private final Meter meter;
+
+        Policy(long threshold, Meter meter) {
+            this.threshold = threshold;
+            this.meter = meter;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof HttpResponse) {
+                HttpResponse response = (HttpResponse) msg;
+                String encoding = response.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+                // The responses already encoded by the application are not measured
+                meter.encoded = encoding != null && !HttpHeaderValues.IDENTITY.contentEqualsIgnoreCase(encoding);
+                if (threshold > 0 && encoding == null) {
+                    long length = response instanceof FullHttpResponse
+                            ? ((FullHttpResponse) response).content().readableBytes()
+                            : HttpUtil.getContentLength(response, -1L);
+                    if (length >= 0 && length < threshold) {
+                        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                    }
+                }
+            }
+            boolean compressing = meter.compressing;
+            long responses = meter.compressedResponses;
+            if (!compressing && !(msg instanceof HttpResponse)) {
+                ctx.write(msg, promise);
+                return;
+            }
+            long uncompressed = sizeOf(msg);
+            long start = System.nanoTime();
+            ctx.write(msg, promise);
+            // The compressor decides whether a response is compressed when it writes its headers
+            if (compressing || meter.compressedResponses != responses) {
+                COMPRESSION_TIME.add(System.nanoTime() - start);
+                UNCOMPRESSED_BYTES.add(uncompressed);
+            }
+        }
+    }
+
+    /**
+     * Written to after the compressor.
+     */
+    static final class Meter extends ChannelOutboundHandlerAdapter {
+
+        /** Whether the response being written is compressed, only accessed from the event loop */
+        boolean compressing;
+        /** The number of compressed responses written on the connection */
+        long compressedResponses;
+        /** Whether the response being written was encoded before the compressor */
+        boolean encoded;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof HttpResponse) {
+                String encoding = ((HttpResponse) msg).headers().get(HttpHeaderNames.CONTENT_ENCODING);
+                compressing = !encoded && encoding != null
+                        && !HttpHeaderValues.IDENTITY.contentEqualsIgnoreCase(encoding);
+                if (compressing) {
+                    compressedResponses++;
+                }
+            }
+            if (compressing) {
+                COMPRESSED_BYTES.add(sizeOf(msg));
+                if (msg instanceof LastHttpContent) {
+                    compressing = false;
+                }
+            }
+            ctx.write(msg, promise);
+        }
+    }
+}
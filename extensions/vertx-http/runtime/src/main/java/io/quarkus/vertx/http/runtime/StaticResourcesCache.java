@@ -0,0 +1,113 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.MimeMapping;
+
+/**
+ * The static resources from the classpath loaded in memory at startup.
+ * <p>
+ * The content of each resource is kept in a direct buffer, written to the responses through a duplicate without being
+ * copied, and its headers are computed once.
+ */
+final class StaticResourcesCache {
+
+    private static final Logger log = Logger.getLogger(StaticResourcesCache.class);
+
+    private final Map<String, CachedResource> resources;
+
+    private StaticResourcesCache(Map<String, CachedResource> resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * @param classLoader the class loader of the static resources
+     * @param files the paths of the static resources, relative to {@code META-INF/resources}
+     * @param maxFileSize the maximum size of a resource loaded in memory
+     * @param maxSize the maximum size of all the resources loaded in memory
+     * @param includeHidden whether the hidden resources are served
+     */
+    static StaticResourcesCache load(ClassLoader classLoader, Set<String> files, long maxFileSize, long maxSize,
+            boolean includeHidden) {
+        Map<String, CachedResource> resources = new HashMap<>();
+        long size = 0;
+        for (String file : files) {
+            if (!includeHidden && file.contains("/.")) {
+                continue;
+            }
+            byte[] content;
+            try (InputStream in = classLoader.getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + file)) {
+                if (in == null) {
+                    continue;
+                }
+                content = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 1, maxFileSize + 1));
+            } catch (IOException e) {
+                log.debugf(e, "Unable to load the static resource %s in memory", file);
+                continue;
+            }
+            if (content.length > maxFileSize) {
+                continue;
+            }
+            if (size + content.length > maxSize) {
+                log.debugf("The static resources exceed %d bytes, %s is not loaded in memory", maxSize, file);
+                continue;
+            }
+            size += content.length;
+            resources.put(file, new CachedResource(file, content));
+        }
+        log.debugf("Loaded %d static resources in memory, %d bytes", resources.size(), size);
+        return new StaticResourcesCache(Map.copyOf(resources));
+    }
+
+    CachedResource get(String path) {
+        return resources.get(path);
+    }
+
+    boolean isEmpty() {
+        return resources.isEmpty();
+    }
+
+    static final class CachedResource {
+        /** The direct buffer is freed by the garbage collector once the cache is not used anymore */
+        final Buffer content;
+        final String contentLength;
+        /** The content type of the resource, {@code null} if unknown */
+        final String contentType;
+        /** The strong entity tag of the resource, derived from its content */
+        final String etag;
+        /** The weak entity tag of the resource, when the response is compressed */
+        final String weakEtag;
+
+        private CachedResource(String path, byte[] content) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+            this.content = Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer)));
+            this.contentLength = Integer.toString(content.length);
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            this.contentType = contentType != null && contentType.startsWith("text") ? contentType + ";charset=UTF-8"
+                    : contentType;
+            this.etag = "\"" + hash(content) + "\"";
+            this.weakEtag = "W/" + etag;
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 27);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
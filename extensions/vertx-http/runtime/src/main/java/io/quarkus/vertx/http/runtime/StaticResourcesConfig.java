@@ -4,6 +4,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class StaticResourcesConfig {
@@ -50,4 +51,23 @@ public class StaticResourcesConfig {
     @ConfigItem(defaultValue = "10000")
     public int maxCacheSize;
 
+    /**
+     * Set whether the static resources from the classpath are loaded in memory at startup, in direct buffers, and served
+     * from memory without accessing the file system. Range requests are still served from the file system.
+     */
+    @ConfigItem
+    public boolean inMemory;
+
+    /**
+     * Set the maximum size of a static resource loaded in memory. The larger resources are served from the file system.
+     */
+    @ConfigItem(defaultValue = "256K")
+    public MemorySize inMemoryMaxFileSize;
+
+    /**
+     * Set the maximum size of all the static resources loaded in memory.
+     */
+    @ConfigItem(defaultValue = "32M")
+    public MemorySize inMemoryMaxSize;
+
 }
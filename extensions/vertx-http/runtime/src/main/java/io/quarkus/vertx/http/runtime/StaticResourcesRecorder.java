@@ -3,6 +3,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -10,6 +11,8 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -37,7 +40,12 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of the static resources
+     * @param knownFiles the paths of the static resources which are not directories
+     * @param entityTags the entity tags of the static resources having precompressed variants, by path
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Set<String> knownFiles, Map<String, String> entityTags) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -84,6 +92,12 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final String cacheControl = config.cachingEnabled ? "public, immutable, max-age=" + config.maxAge.toSeconds()
+                    : null;
+            final StaticResourcesCache cache = config.inMemory
+                    ? StaticResourcesCache.load(currentCl, knownFiles, config.inMemoryMaxFileSize.asLongValue(),
+                            config.inMemoryMaxSize.asLongValue(), config.includeHidden)
+                    : null;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -93,7 +107,21 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
-                        compressIfNeeded(ctx, rel);
+                        String resource = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                        if (!entityTags.isEmpty()) {
+                            String entityTag = entityTags.get(resource);
+                            if (entityTag != null
+                                    && servePrecompressed(ctx, resource, entityTag, knownPaths, cacheControl, cache)) {
+                                return;
+                            }
+                        }
+                        boolean compressed = compressIfNeeded(ctx, rel);
+                        if (cache != null) {
+                            StaticResourcesCache.CachedResource cached = cache.get(resource);
+                            if (cached != null && serveCached(ctx, cached, compressed, cacheControl)) {
+                                return;
+                            }
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
@@ -115,12 +143,164 @@ public void accept(Route route) {
         };
     }
 
-    private void compressIfNeeded(RoutingContext ctx, String path) {
+    /**
+     * Serves the precompressed variant of a resource accepted by the client, if any.
+     *
+     * @return whether the variant is served
+     */
+    static boolean servePrecompressed(RoutingContext ctx, String resource, String entityTag, Set<String> knownPaths,
+            String cacheControl, StaticResourcesCache cache) {
+        HttpServerResponse response = ctx.response();
+        // The identity response depends on the accepted encodings too
+        response.headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD || ctx.request().headers().contains("Range")) {
+            return false;
+        }
+        String encoding = selectEncoding(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING),
+                knownPaths.contains(resource + ".br"), knownPaths.contains(resource + ".gz"));
+        if (encoding == null) {
+            return false;
+        }
+        // Each representation has its own strong entity tag
+        String etag = "\"" + entityTag + "-" + encoding + "\"";
+        response.putHeader(HttpHeaders.ETAG, etag);
+        if (cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.headers().remove(HttpHeaders.CONTENT_ENCODING);
+            response.setStatusCode(304).end();
+            return true;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(resource);
+        if (contentType != null) {
+            response.putHeader(HttpHeaders.CONTENT_TYPE,
+                    contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType);
+        }
+        // Replaces the "Content-Encoding: identity" header, so the response is not compressed again
+        response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        String variant = resource + (encoding.equals("br") ? ".br" : ".gz");
+        StaticResourcesCache.CachedResource cached = cache != null ? cache.get(variant) : null;
+        if (cached != null) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, cached.contentLength);
+            if (method == HttpMethod.HEAD) {
+                response.end();
+            } else {
+                response.end(cached.content);
+            }
+        } else if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.sendFile(META_INF_RESOURCES + variant).onFailure(ctx::fail);
+        }
+        return true;
+    }
+
+    /**
+     * Serves a resource loaded in memory, unless it is a range request or the method is neither {@code GET} nor
+     * {@code HEAD}.
+     *
+     * @param compressed whether the response is compressed on the fly
+     * @return whether the resource is served
+     */
+    static boolean serveCached(RoutingContext ctx, StaticResourcesCache.CachedResource cached, boolean compressed,
+            String cacheControl) {
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD || ctx.request().headers().contains("Range")) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        // The compressed representation differs from the identity one
+        String etag = compressed ? cached.weakEtag : cached.etag;
+        response.putHeader(HttpHeaders.ETAG, etag);
+        if (cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (compressed) {
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (cached.contentType != null) {
+            response.putHeader(HttpHeaders.CONTENT_TYPE, cached.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, cached.contentLength).end();
+        } else {
+            // Written through a duplicate of the direct buffer, without copying the content
+            response.end(cached.content);
+        }
+        return true;
+    }
+
+    /**
+     * @return the preferred encoding among the available ones accepted by the client, {@code br} if equally preferred,
+     *         or {@code null}
+     */
+    static String selectEncoding(String acceptEncoding, boolean brotli, boolean gzip) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        double brotliQuality = 0;
+        double gzipQuality = 0;
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters == -1 ? coding : coding.substring(0, parameters)).trim();
+            double quality = parameters == -1 ? 1 : quality(coding.substring(parameters + 1));
+            if (brotli && name.equalsIgnoreCase("br")) {
+                brotliQuality = quality;
+            } else if (gzip && name.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality;
+            }
+        }
+        if (brotliQuality > 0 && brotliQuality >= gzipQuality) {
+            return "br";
+        }
+        return gzipQuality > 0 ? "gzip" : null;
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            parameter = parameter.trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // Weak comparison
+            if (tag.equals("*") || tag.equals(etag) || tag.startsWith("W/") && tag.substring(2).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the response may be compressed
+     */
+    private boolean compressIfNeeded(RoutingContext ctx, String path) {
         if (httpBuildTimeConfig.enableCompression && isCompressed(path)) {
             // VertxHttpRecorder is adding "Content-Encoding: identity" to all requests if compression is enabled.
             // Handlers can remove the "Content-Encoding: identity" header to enable compression.
             ctx.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+            return true;
         }
+        return false;
     }
 
     private boolean isCompressed(String path) {
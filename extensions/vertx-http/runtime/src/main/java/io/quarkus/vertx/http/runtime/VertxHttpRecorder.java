@@ -44,8 +44,10 @@
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.runtime.BeanContainer;
@@ -66,6 +68,7 @@
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
@@ -145,6 +148,10 @@ public class VertxHttpRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(VertxHttpRecorder.class.getName());
 
+    /** The name of the Vert.x handler in the pipeline of a connection */
+    private static final String VERTX_HANDLER = "handler";
+    private static final String FLUSH_CONSOLIDATION_HANDLER = "quarkus-flush-consolidation";
+
     private static volatile Handler<RoutingContext> hotReplacementHandler;
     private static volatile HotReplacementContext hotReplacementContext;
     private static volatile RemoteSyncHandler remoteSyncHandler;
@@ -711,11 +718,12 @@ private static void doServerStart(Vertx vertx, HttpBuildTimeConfig httpBuildTime
         }
         CompletableFuture<String> futureResult = new CompletableFuture<>();
         AtomicInteger connectionCount = new AtomicInteger();
+        Handler<HttpConnection> connectionSetup = createConnectionSetup(httpBuildTimeConfig, httpConfiguration);
         vertx.deployVerticle(new Supplier<Verticle>() {
             @Override
             public Verticle get() {
                 return new WebDeploymentVerticle(httpServerOptions, sslConfig, domainSocketOptions, launchMode,
-                        httpConfiguration.insecureRequests, httpConfiguration, connectionCount);
+                        httpConfiguration.insecureRequests, httpConfiguration, connectionCount, connectionSetup);
             }
         }, new DeploymentOptions().setInstances(ioThreads), new Handler<AsyncResult<String>>() {
             @Override
@@ -954,6 +962,44 @@ private static void applyCommonOptions(HttpServerOptions httpServerOptions,
         httpServerOptions.setHandle100ContinueAutomatically(httpConfiguration.handle100ContinueAutomatically);
     }
 
+    /**
+     * @return the handler adding the compression and write coalescing handlers to the pipeline of each connection, or
+     *         {@code null} if none is enabled
+     */
+    private static Handler<HttpConnection> createConnectionSetup(HttpBuildTimeConfig buildTimeConfig,
+            HttpConfiguration httpConfiguration) {
+        HttpResponseCompression compression = buildTimeConfig.enableCompression
+                ? new HttpResponseCompression(buildTimeConfig.compressionThreshold.map(MemorySize::asLongValue).orElse(0L))
+                : null;
+        boolean coalesceWrites = httpConfiguration.coalesceWrites;
+        if (compression == null && !coalesceWrites) {
+            return null;
+        }
+        return new Handler<HttpConnection>() {
+            @Override
+            public void handle(HttpConnection connection) {
+                if (!(connection instanceof ConnectionBase)) {
+                    return;
+                }
+                ChannelPipeline pipeline = ((ConnectionBase) connection).channelHandlerContext().pipeline();
+                if (compression != null) {
+                    compression.install(pipeline);
+                }
+                if (coalesceWrites) {
+                    // Flushes are deferred to the end of the read batch, or to a task run once the current tasks of the
+                    // event loop complete, so that the responses written meanwhile are sent with a single system call
+                    FlushConsolidationHandler handler = new FlushConsolidationHandler(
+                            FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true);
+                    if (pipeline.context(VERTX_HANDLER) != null) {
+                        pipeline.addBefore(VERTX_HANDLER, FLUSH_CONSOLIDATION_HANDLER, handler);
+                    } else {
+                        pipeline.addLast(FLUSH_CONSOLIDATION_HANDLER, handler);
+                    }
+                }
+            }
+        };
+    }
+
     private static KeyStoreOptions createKeyStoreOptions(Path path, String password, Optional<String> fileType,
             Optional<String> provider, Optional<String> alias, Optional<String> aliasPassword) throws IOException {
         final String type;
@@ -1117,6 +1163,26 @@ public Handler<RoutingContext> getNonApplicationRedirectHandler() {
         return nonApplicationRedirectHandler;
     }
 
+    public Consumer<MetricsFactory> registerCompressionMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("http.server.compression.uncompressed")
+                        .description("Number of bytes of the HTTP response bodies compressed by the server, before compression")
+                        .unit("bytes")
+                        .buildCounter(HttpResponseCompression.UNCOMPRESSED_BYTES::sum);
+                metricsFactory.builder("http.server.compression.compressed")
+                        .description("Number of bytes of the HTTP response bodies compressed by the server, after compression")
+                        .unit("bytes")
+                        .buildCounter(HttpResponseCompression.COMPRESSED_BYTES::sum);
+                metricsFactory.builder("http.server.compression.time")
+                        .description("Time spent compressing the HTTP response bodies")
+                        .unit("nanoseconds")
+                        .buildCounter(HttpResponseCompression.COMPRESSION_TIME::sum);
+            }
+        };
+    }
+
     public GracefulShutdownFilter createGracefulShutdownHandler() {
         return new GracefulShutdownFilter();
     }
@@ -1136,10 +1202,12 @@ private static class WebDeploymentVerticle extends AbstractVerticle implements R
         private final HttpConfiguration.InsecureRequests insecureRequests;
         private final HttpConfiguration quarkusConfig;
         private final AtomicInteger connectionCount;
+        private final Handler<HttpConnection> connectionSetup;
 
         public WebDeploymentVerticle(HttpServerOptions httpOptions, HttpServerOptions httpsOptions,
                 HttpServerOptions domainSocketOptions, LaunchMode launchMode,
-                InsecureRequests insecureRequests, HttpConfiguration quarkusConfig, AtomicInteger connectionCount) {
+                InsecureRequests insecureRequests, HttpConfiguration quarkusConfig, AtomicInteger connectionCount,
+                Handler<HttpConnection> connectionSetup) {
             this.httpOptions = httpOptions;
             this.httpsOptions = httpsOptions;
             this.launchMode = launchMode;
@@ -1147,6 +1215,7 @@ public WebDeploymentVerticle(HttpServerOptions httpOptions, HttpServerOptions ht
             this.insecureRequests = insecureRequests;
             this.quarkusConfig = quarkusConfig;
             this.connectionCount = connectionCount;
+            this.connectionSetup = connectionSetup;
             org.crac.Core.getGlobalContext().register(this);
         }
 
@@ -1267,8 +1336,13 @@ public void handle(Void event) {
                                 connectionCount.decrementAndGet();
                             }
                         });
+                        if (connectionSetup != null) {
+                            connectionSetup.handle(event);
+                        }
                     }
                 });
+            } else if (connectionSetup != null) {
+                httpServer.connectionHandler(connectionSetup);
             }
             httpServer.listen(options.getPort(), options.getHost(), new Handler<>() {
                 @Override
@@ -28,6 +28,16 @@ public String readAttribute(final RoutingContext exchange) {
         }
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        long bytesSent = exchange.response().bytesWritten();
+        if (dashIfZero && bytesSent == 0) {
+            builder.append('-');
+        } else {
+            builder.append(bytesSent);
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Bytes sent", newValue);
@@ -19,6 +19,11 @@ public String readAttribute(final RoutingContext exchange) {
         return value;
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        builder.append(value);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("constant", newValue);
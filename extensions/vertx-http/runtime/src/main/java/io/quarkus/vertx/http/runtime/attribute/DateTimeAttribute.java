@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,6 +23,9 @@ public class DateTimeAttribute implements ExchangeAttribute {
     public static final ExchangeAttribute INSTANCE = new DateTimeAttribute();
 
     private final DateTimeFormatter formatter;
+    /** Whether the formatted time changes at most every second, so that it is formatted once per second */
+    private final boolean cacheable;
+    private volatile CachedTime cachedTime;
 
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
@@ -37,11 +41,30 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        this.cacheable = !containsAny(dateFormat, "SnNA");
+    }
+
+    private static boolean containsAny(String dateFormat, String letters) {
+        for (int i = 0; i < letters.length(); i++) {
+            if (dateFormat.indexOf(letters.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        if (!cacheable) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        long second = System.currentTimeMillis() / 1000;
+        CachedTime cachedTime = this.cachedTime;
+        if (cachedTime == null || cachedTime.second != second) {
+            String value = formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()));
+            this.cachedTime = cachedTime = new CachedTime(second, value);
+        }
+        return cachedTime.value;
     }
 
     @Override
@@ -49,6 +72,16 @@ public void writeAttribute(final RoutingContext exchange, final String newValue)
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private static final class CachedTime {
+        final long second;
+        final String value;
+
+        CachedTime(long second, String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
@@ -16,6 +16,21 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to the given builder. Nothing is appended if the attribute is not present.
+     * <p>
+     * The attributes evaluated for each request override it to be appended without creating an intermediate string.
+     *
+     * @param exchange The exchange
+     * @param builder The builder the attribute is appended to
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
@@ -19,8 +19,14 @@ private RequestLineAttribute() {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        StringBuilder sb = new StringBuilder()
-                .append(exchange.request().method())
+        StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder sb) {
+        sb.append(exchange.request().method())
                 .append(' ')
                 .append(exchange.request().uri());
         sb.append(' ');
@@ -44,7 +50,6 @@ public String readAttribute(final RoutingContext exchange) {
                 break;
         }
         sb.append(httpVersion);
-        return sb.toString();
     }
 
     @Override
@@ -96,6 +96,14 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     private final String formatString;
     private final ExchangeAttribute tokens;
     private final Pattern excludePattern;
+    /**
+     * The builder the attributes are appended to, reused by each thread. It is discarded when it grew larger than
+     * {@link #MAX_BUILDER_CAPACITY}, so that a single large message does not retain memory.
+     */
+    private final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(AccessLogHandler::newBuilder);
+
+    private static final int INITIAL_BUILDER_CAPACITY = 256;
+    private static final int MAX_BUILDER_CAPACITY = 8192;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, ClassLoader classLoader,
             Optional<String> excludePattern) {
@@ -145,12 +153,27 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(format(rc));
             }
         });
         rc.next();
     }
 
+    private String format(RoutingContext rc) {
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+        tokens.appendAttribute(rc, builder);
+        String message = builder.toString();
+        if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+            builders.set(newBuilder());
+        }
+        return message;
+    }
+
+    private static StringBuilder newBuilder() {
+        return new StringBuilder(INITIAL_BUILDER_CAPACITY);
+    }
+
     @Override
     public String toString() {
         return "AccessLogHandler{" +
@@ -21,7 +21,11 @@
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,6 +50,9 @@
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The queued messages are encoded in a reusable buffer, which is written to the file once full and once all the
+ * messages are encoded, so that a batch of messages costs a few system calls.
  *
  * @author Stuart Douglas
  */
@@ -55,6 +62,8 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Executor logWriteExecutor;
 
     private final Deque<String> pendingMessages;
@@ -78,7 +87,11 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix; // always starts with a '.' character
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -214,11 +227,7 @@ public void run() {
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
-                    }
+                    closeChannel();
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
                 }
@@ -246,40 +255,60 @@ private void writeMessage(final List<String> messages) {
             doRotate();
         }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
                         StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                if (channel.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        encodeLine(header);
                     }
                 }
             }
             for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
+                encodeLine(message);
             }
-            writer.flush();
+            writeBuffer();
         } catch (IOException e) {
+            buffer.clear();
             log.error("Error writing access log", e);
         }
     }
 
+    private void encodeLine(String message) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(message);
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            writeBuffer();
+        }
+        encoder.reset();
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+        buffer.put((byte) '\n');
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
     private void doRotate() {
         forceLogRotation = false;
         if (!rotate) {
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
-            }
+            closeChannel();
             if (!Files.exists(defaultLogFile)) {
                 return;
             }
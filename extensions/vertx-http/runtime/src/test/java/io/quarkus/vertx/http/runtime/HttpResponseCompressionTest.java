@@ -0,0 +1,98 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+public class HttpResponseCompressionTest {
+
+    @Test
+    public void shouldNotCompressBelowThreshold() {
+        EmbeddedChannel channel = channel(100);
+        channel.writeInbound(request());
+        channel.writeOutbound(response(99));
+
+        HttpResponse response = channel.readOutbound();
+        assertEquals("identity", response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        assertEquals(99, ((FullHttpResponse) response).content().readableBytes());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldCompressAndMeasureAboveThreshold() {
+        long uncompressed = HttpResponseCompression.UNCOMPRESSED_BYTES.sum();
+        long compressed = HttpResponseCompression.COMPRESSED_BYTES.sum();
+        long time = HttpResponseCompression.COMPRESSION_TIME.sum();
+        EmbeddedChannel channel = channel(100);
+        channel.writeInbound(request());
+        channel.writeOutbound(response(1000));
+
+        HttpResponse response = channel.readOutbound();
+        assertEquals("gzip", response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        long size = 0;
+        HttpContent content;
+        while ((content = channel.readOutbound()) != null) {
+            size += content.content().readableBytes();
+            content.release();
+        }
+        assertTrue(size > 0 && size < 1000);
+        assertEquals(1000, HttpResponseCompression.UNCOMPRESSED_BYTES.sum() - uncompressed);
+        assertEquals(size, HttpResponseCompression.COMPRESSED_BYTES.sum() - compressed);
+        assertTrue(HttpResponseCompression.COMPRESSION_TIME.sum() > time);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldNotMeasureResponsesEncodedByTheApplication() {
+        long compressed = HttpResponseCompression.COMPRESSED_BYTES.sum();
+        EmbeddedChannel channel = channel(0);
+        channel.writeInbound(request());
+        FullHttpResponse encoded = response(1000);
+        encoded.headers().set(HttpHeaderNames.CONTENT_ENCODING, "br");
+        channel.writeOutbound(encoded);
+
+        HttpResponse response = channel.readOutbound();
+        assertEquals("br", response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        assertEquals(compressed, HttpResponseCompression.COMPRESSED_BYTES.sum());
+        channel.finishAndReleaseAll();
+    }
+
+    private static EmbeddedChannel channel(long threshold) {
+        HttpResponseCompression.Meter meter = new HttpResponseCompression.Meter();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(HttpResponseCompression.METER_HANDLER, meter);
+        channel.pipeline().addLast("deflater", new HttpContentCompressor());
+        channel.pipeline().addLast(HttpResponseCompression.POLICY_HANDLER,
+                new HttpResponseCompression.Policy(threshold, meter));
+        return channel;
+    }
+
+    private static DefaultFullHttpRequest request() {
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip");
+        return request;
+    }
+
+    private static FullHttpResponse response(int length) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                Unpooled.copiedBuffer("a".repeat(length), StandardCharsets.UTF_8));
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
+        return response;
+    }
+}
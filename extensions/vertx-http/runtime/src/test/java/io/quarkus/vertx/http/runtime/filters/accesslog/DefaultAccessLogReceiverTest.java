@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultAccessLogReceiverTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteAllMessages() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                    .setLogWriteExecutor(executor)
+                    .setOutputDirectory(directory)
+                    .setLogBaseName("access")
+                    .setLogFileHeaderGenerator(() -> "#header")
+                    .build();
+            List<String> expected = new ArrayList<>();
+            expected.add("#header");
+            for (int i = 0; i < 5000; i++) {
+                String message = "GET /h\u00e9llo/" + i + " 200 \u20ac";
+                expected.add(message);
+                receiver.logMessage(message);
+            }
+            // Larger than the buffer
+            String large = "x".repeat(100_000) + "\u20ac";
+            expected.add(large);
+            receiver.logMessage(large);
+            receiver.awaitWrittenForTest();
+            receiver.close();
+            receiver.awaitWrittenForTest();
+
+            assertEquals(expected, Files.readAllLines(directory.resolve("access.log"), StandardCharsets.UTF_8));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,11 +3,13 @@
 import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe;
 import static io.smallrye.common.vertx.VertxContext.getOrCreateDuplicatedContext;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.jboss.logmanager.MDCProvider;
 
@@ -33,6 +35,12 @@ protected Map<String, Object> initialValue() {
         }
     };
 
+    /**
+     * Values computed when read instead of being stored in the contextual data map, see
+     * {@link #putLazyValue(String, Function)}. Copied on write as they are only registered at startup.
+     */
+    private volatile Map<String, Function<Context, Object>> lazyValues = Collections.emptyMap();
+
     /**
      * Get the value for a key, or {@code null} if there is no mapping.
      *
@@ -86,7 +94,47 @@ public String get(String key, Context vertxContext) {
      */
     public Object getObject(String key, Context vertxContext) {
         Objects.requireNonNull(key);
-        return contextualDataMap(vertxContext).get(key);
+        Object value = contextualDataMap(vertxContext).get(key);
+        if (value == null) {
+            Function<Context, Object> lazyValue = lazyValues.get(key);
+            if (lazyValue != null) {
+                value = lazyValue.apply(vertxContext);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Register a value computed from the Vert.x Context each time the key is read or the MDC map is copied, instead of
+     * being put in the MDC map. This allows data that is already stored in the Vert.x Context (e.g. the current trace)
+     * to be logged without updating the MDC map each time it changes.
+     * <p>
+     * A value put in the MDC map for the same key takes precedence over the computed value.
+     *
+     * @param key the key
+     * @param value the function computing the value from the Vert.x Context (or {@code null} if called out of a Vert.x
+     *        thread), it may return {@code null} if there is no value
+     */
+    public synchronized void putLazyValue(String key, Function<Context, Object> value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Map<String, Function<Context, Object>> copy = new HashMap<>(lazyValues);
+        copy.put(key, value);
+        lazyValues = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Removes a value registered with {@link #putLazyValue(String, Function)}.
+     *
+     * @param key the key
+     */
+    public synchronized void removeLazyValue(String key) {
+        Objects.requireNonNull(key);
+        if (lazyValues.containsKey(key)) {
+            Map<String, Function<Context, Object>> copy = new HashMap<>(lazyValues);
+            copy.remove(key);
+            lazyValues = Collections.unmodifiableMap(copy);
+        }
     }
 
     /**
@@ -242,6 +290,14 @@ public Map<String, String> copy(Context vertxContext) {
         for (Map.Entry<String, Object> entry : contextualDataMap.entrySet()) {
             result.put(entry.getKey(), entry.getValue().toString());
         }
+        for (Map.Entry<String, Function<Context, Object>> entry : lazyValues.entrySet()) {
+            if (!result.containsKey(entry.getKey())) {
+                Object value = entry.getValue().apply(vertxContext);
+                if (value != null) {
+                    result.put(entry.getKey(), value.toString());
+                }
+            }
+        }
         return result;
     }
 
@@ -252,7 +308,16 @@ public Map<String, String> copy(Context vertxContext) {
      * @return a copy of the map
      */
     public Map<String, Object> copyObject(Context vertxContext) {
-        return new HashMap<>(contextualDataMap(vertxContext));
+        Map<String, Object> result = new HashMap<>(contextualDataMap(vertxContext));
+        for (Map.Entry<String, Function<Context, Object>> entry : lazyValues.entrySet()) {
+            if (!result.containsKey(entry.getKey())) {
+                Object value = entry.getValue().apply(vertxContext);
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -18,6 +18,8 @@ public class GrpcCallingResource {
     Greeter client1;
     @GrpcClient("hello2")
     Greeter client2;
+    @GrpcClient("hello3")
+    Greeter client3;
 
     @GET
     @Path("/unary/1")
@@ -33,6 +35,13 @@ public Uni<String> unaryCall2(@QueryParam("headers") boolean headers) {
                 .onItem().transform(HelloReply::getMessage);
     }
 
+    @GET
+    @Path("/unary/3")
+    public Uni<String> unaryCall3() {
+        return client3.sayHello(HelloRequest.newBuilder().setName("World").build())
+                .onItem().transform(HelloReply::getMessage);
+    }
+
     @POST
     @Path("/delay")
     public String setDelay(Integer delayMs) {
@@ -51,4 +51,22 @@ public void shouldCallModerateIfFaster() {
         assertThat(responses.stream().filter(r -> r.equals("configurable")))
                 .hasSizeLessThan(5);
     }
+
+    @Test
+    public void shouldPreferFasterInstanceWithLatencyAwareLoadBalancer() {
+        given().body("0")
+                .when().post("/test/delay")
+                .then().statusCode(200);
+        List<String> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Response response = get("/test/unary/3");
+            response.then().statusCode(200);
+            responses.add(response.asString());
+        }
+
+        assertThat(responses.stream().filter(r -> r.equals("moderately-slow")))
+                .hasSizeLessThan(5);
+        assertThat(responses.stream().filter(r -> r.equals("configurable")))
+                .hasSizeGreaterThan(5);
+    }
 }